@@ -0,0 +1,298 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches a fixed set of keywords against text, ignoring case, in a single pass over the text.
+ * <p>
+ * The keywords are compiled once into an Aho-Corasick automaton, so checking a text costs time proportional to
+ * its length regardless of the number of keywords, and allocates nothing. Characters are compared the way
+ * {@link String#equalsIgnoreCase(String)} compares them.
+ */
+public class KeywordMatcher {
+
+    /** Number of keywords whose whole word matches can be reported by {@link #wholeWordMatches(String)}. */
+    public static final int MAX_WORD_MASK_KEYWORDS = Long.SIZE;
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUTS = new int[0];
+
+    private final List<String> foldedKeywords;
+    private final int[] keywordLengths;
+
+    /** Open-addressing table of the goto function, keyed by {@link #transitionKey(int, char)}. */
+    private final long[] transitionKeys;
+    /** Target state plus one for the key in the same slot, or 0 for an empty slot. */
+    private final int[] transitionTargets;
+
+    private final int[] failures;
+    /** Keywords ending at each state, including those reached through failure links. */
+    private final int[][] outputs;
+    /** Keyword spelled out by each state, or -1. */
+    private final int[] ownKeyword;
+
+    /**
+     * Compiles a matcher for {@code keywords}. Keywords that are equal ignoring case are treated as one keyword,
+     * and empty keywords are ignored.
+     */
+    public KeywordMatcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<String, Integer> distinct = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            String folded = fold(keyword);
+            if (!folded.isEmpty()) {
+                distinct.putIfAbsent(folded, distinct.size());
+            }
+        }
+        foldedKeywords = List.copyOf(distinct.keySet());
+        keywordLengths = foldedKeywords.stream().mapToInt(String::length).toArray();
+
+        int maxStates = 1 + Arrays.stream(keywordLengths).sum();
+        // at most half full, so that probing stays short
+        int capacity = Integer.highestOneBit(maxStates) * 4;
+        transitionKeys = new long[capacity];
+        transitionTargets = new int[capacity];
+        int[] parents = new int[maxStates];
+        int[] depths = new int[maxStates];
+        char[] labels = new char[maxStates];
+        int[] own = new int[maxStates];
+        Arrays.fill(own, -1);
+
+        int stateCount = 1;
+        for (int keyword = 0; keyword < foldedKeywords.size(); keyword++) {
+            String folded = foldedKeywords.get(keyword);
+            int state = ROOT;
+            for (int i = 0; i < folded.length(); i++) {
+                char c = folded.charAt(i);
+                int next = transition(state, c);
+                if (next < 0) {
+                    next = stateCount++;
+                    parents[next] = state;
+                    depths[next] = depths[state] + 1;
+                    labels[next] = c;
+                    putTransition(state, c, next);
+                }
+                state = next;
+            }
+            own[state] = keyword;
+        }
+        ownKeyword = Arrays.copyOf(own, stateCount);
+
+        // failure links and outputs, computed in order of depth so that shorter states are always done first
+        failures = new int[stateCount];
+        outputs = new int[stateCount][];
+        outputs[ROOT] = NO_OUTPUTS;
+        for (int state : statesByDepth(depths, stateCount)) {
+            if (state == ROOT) {
+                continue;
+            }
+            int parent = parents[state];
+            int failure = ROOT;
+            if (parent != ROOT) {
+                failure = step(failures[parent], labels[state]);
+            }
+            failures[state] = failure;
+            int[] inherited = outputs[failure];
+            if (ownKeyword[state] < 0) {
+                outputs[state] = inherited;
+            } else {
+                outputs[state] = Arrays.copyOf(inherited, inherited.length + 1);
+                outputs[state][inherited.length] = ownKeyword[state];
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct case-folded keywords, in the order they were given. The position of a keyword in
+     * this list is the bit used for it by {@link #wholeWordMatches(String)}.
+     */
+    public List<String> getKeywords() {
+        return foldedKeywords;
+    }
+
+    public boolean isEmpty() {
+        return foldedKeywords.isEmpty();
+    }
+
+    /**
+     * Returns true if any keyword occurs in {@code text}.
+     */
+    public boolean occursIn(String text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, fold(text.charAt(i)));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code text} is equal to any keyword.
+     */
+    public boolean matchesWhole(String text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length() && state >= 0; i++) {
+            state = transition(state, fold(text.charAt(i)));
+        }
+        return state >= 0 && ownKeyword[state] >= 0;
+    }
+
+    /**
+     * Returns true if {@code text} starts with any keyword.
+     */
+    public boolean isPrefixedByAny(String text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = transition(state, fold(text.charAt(i)));
+            if (state < 0) {
+                return false;
+            }
+            if (ownKeyword[state] >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a mask with the bit of every keyword that occurs in {@code text} as a whole word, that is, with
+     * whitespace or the ends of {@code text} on both sides. Only the first {@link #MAX_WORD_MASK_KEYWORDS}
+     * keywords are reported.
+     */
+    public long wholeWordMatches(String text) {
+        long found = 0;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, fold(text.charAt(i)));
+            for (int keyword : outputs[state]) {
+                if (keyword < MAX_WORD_MASK_KEYWORDS && isWholeWord(text, i - keywordLengths[keyword] + 1, i + 1)) {
+                    found |= 1L << keyword;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the keywords that occur in {@code text} as a whole word, as in {@link #wholeWordMatches(String)},
+     * without a limit on the number of keywords.
+     */
+    public BitSet wholeWordMatchSet(String text) {
+        BitSet found = new BitSet(foldedKeywords.size());
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, fold(text.charAt(i)));
+            for (int keyword : outputs[state]) {
+                if (isWholeWord(text, i - keywordLengths[keyword] + 1, i + 1)) {
+                    found.set(keyword);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns {@code text} with every character folded as by {@link #fold(char)}.
+     */
+    public static String fold(String text) {
+        requireNonNull(text);
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(text.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Folds {@code c} so that two characters are equal after folding exactly when
+     * {@link String#equalsIgnoreCase(String)} considers them equal.
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns true if {@code text[start, end)} is surrounded by whitespace or the ends of {@code text}, with
+     * whitespace as matched by the regular expression {@code \s}.
+     */
+    private static boolean isWholeWord(String text, int start, int end) {
+        return (start == 0 || isWhitespace(text.charAt(start - 1)))
+                && (end == text.length() || isWhitespace(text.charAt(end)));
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int[] statesByDepth(int[] depths, int stateCount) {
+        List<Integer> states = new ArrayList<>(stateCount);
+        for (int state = 0; state < stateCount; state++) {
+            states.add(state);
+        }
+        states.sort((first, second) -> Integer.compare(depths[first], depths[second]));
+        return states.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    //// goto function
+
+    /**
+     * Returns the state reached from {@code state} on {@code c}, following failure links when there is no
+     * transition.
+     */
+    private int step(int state, char c) {
+        while (true) {
+            int next = transition(state, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failures[state];
+        }
+    }
+
+    private static long transitionKey(int state, char c) {
+        return ((long) state << Character.SIZE) | c;
+    }
+
+    private int slotOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & (transitionKeys.length - 1);
+    }
+
+    /**
+     * Returns the state reached from {@code state} on {@code c}, or -1 if there is no transition.
+     */
+    private int transition(int state, char c) {
+        long key = transitionKey(state, c);
+        int mask = transitionKeys.length - 1;
+        for (int slot = slotOf(key); transitionTargets[slot] != 0; slot = (slot + 1) & mask) {
+            if (transitionKeys[slot] == key) {
+                return transitionTargets[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private void putTransition(int state, char c, int target) {
+        long key = transitionKey(state, c);
+        int mask = transitionKeys.length - 1;
+        int slot = slotOf(key);
+        while (transitionTargets[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        transitionKeys[slot] = key;
+        transitionTargets[slot] = target + 1;
+    }
+}
@@ -61,6 +61,58 @@ public class StringUtil {
         return Pattern.compile(Pattern.quote(target), Pattern.CASE_INSENSITIVE).matcher(source).find();
     }
 
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code first} and {@code second}, counting insertions,
+     * deletions, substitutions and transpositions of adjacent characters, if it is at most {@code bound}.
+     * Returns {@code bound + 1} otherwise. Characters are compared exactly.
+     * <br>examples:<pre>
+     *       damerauLevenshteinDistance("alice", "alcie", 2) == 1
+     *       damerauLevenshteinDistance("alice", "bob", 2) == 3
+     *       </pre>
+     *
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param bound cannot be negative
+     */
+    public static int damerauLevenshteinDistance(String first, String second, int bound) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(bound >= 0, "Bound cannot be negative");
+        if (Math.abs(first.length() - second.length()) > bound) {
+            return bound + 1;
+        }
+
+        // three rows of the optimal string alignment table, as a transposition looks two rows back
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > bound) {
+                return bound + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[second.length()], bound + 1);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
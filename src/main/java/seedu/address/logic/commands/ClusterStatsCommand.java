@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+import seedu.address.model.Model;
+
+/**
+ * Shows how many clusters of related persons there are of each size.
+ */
+public class ClusterStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "clusterstats";
+
+    public static final String MESSAGE_HEADER = "Cluster sizes (size: number of clusters):";
+    public static final String MESSAGE_UNRELATED = "Persons without relations: %1$d";
+    public static final String MESSAGE_CLUSTER_SIZE = "%1$d: %2$d";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        SortedMap<Integer, Integer> distribution = model.getRelatedIdTuples().getClusterSizeDistribution();
+        StringBuilder message = new StringBuilder(MESSAGE_HEADER);
+        int relatedPersons = 0;
+        for (Map.Entry<Integer, Integer> entry : distribution.entrySet()) {
+            message.append("\n").append(String.format(MESSAGE_CLUSTER_SIZE, entry.getKey(), entry.getValue()));
+            relatedPersons += entry.getKey() * entry.getValue();
+        }
+        int unrelatedPersons = model.getNetConnect().getPersonList().size() - relatedPersons;
+        message.append("\n").append(String.format(MESSAGE_UNRELATED, unrelatedPersons));
+        return new CommandResult(message.toString());
+    }
+}
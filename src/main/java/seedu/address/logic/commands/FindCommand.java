@@ -1,22 +1,27 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCTS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILLS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.filter.NameFuzzyMatchesKeywordsPredicate;
 import seedu.address.model.person.filter.NetConnectPredicate;
 
 /**
  * Finds and lists all persons in NetConnect whose information matches any of the given arguments.
  * Keyword matching is case-insensitive.
- * Find command supports finding by: name, tag, role, and remark.
+ * Find command supports finding by: name, phone, email, tag, role, remark, skill and product.
  */
 public class FindCommand extends Command {
 
@@ -25,20 +30,33 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds all persons whose information matches any of the given arguments.\n"
             + "Only one type of argument can be given per " + COMMAND_WORD + " command.\n"
-            + "Name, phone, tag and role cannot be empty. "
+            + "Name, phone, email, tag, role, skill and product cannot be empty. "
             + "Remark can be empty to find persons with no remarks.\n"
+            + "End a phone with * to find phone numbers starting with its digits.\n"
+            + "End every name with ~ to also find names with typos, listed with the closest names first.\n"
+            + "Find emails by full email, by local part followed by @, or by domain preceded by @.\n"
+            + "Alternatively, give a single " + PREFIX_QUERY + "QUERY that combines fields with AND, OR, NOT "
+            + "and parentheses.\n"
             + "Parameters: "
             + "[" + PREFIX_NAME + "NAME]... "
-            + "[" + PREFIX_PHONE + "PHONE]..."
+            + "[" + PREFIX_PHONE + "PHONE]... "
+            + "[" + PREFIX_EMAIL + "EMAIL]... "
             + "[" + PREFIX_TAG + "TAG]... "
             + "[" + PREFIX_ROLE + "ROLE]... "
-            + "[" + PREFIX_REMARK + "REMARK]... \n"
+            + "[" + PREFIX_REMARK + "REMARK]... "
+            + "[" + PREFIX_SKILLS + "SKILL]... "
+            + "[" + PREFIX_PRODUCTS + "PRODUCT]... \n"
             + "Examples: \n"
             + COMMAND_WORD + " n/alice n/bob n/charlie\n"
-            + COMMAND_WORD + " p/91278539 p/83489532\n"
+            + COMMAND_WORD + " n/alcie~\n"
+            + COMMAND_WORD + " p/91278539 p/8348*\n"
+            + COMMAND_WORD + " e/@example.com e/alice@\n"
             + COMMAND_WORD + " t/friends t/colleagues\n"
             + COMMAND_WORD + " role/client\n"
-            + COMMAND_WORD + " r/owes money r/quarterly report";
+            + COMMAND_WORD + " r/owes money r/quarterly report\n"
+            + COMMAND_WORD + " skills/python\n"
+            + COMMAND_WORD + " prod/office chairs\n"
+            + COMMAND_WORD + " " + PREFIX_QUERY + "(t/friends OR t/colleagues) AND NOT role/supplier";
 
     private final NetConnectPredicate<Person> predicate;
 
@@ -50,6 +68,9 @@ public class FindCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.stackFilters(predicate);
+        if (predicate instanceof NameFuzzyMatchesKeywordsPredicate) {
+            model.rankPersons(((NameFuzzyMatchesKeywordsPredicate) predicate).relevanceComparator());
+        }
         String output = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size())
                 + "\n" + model.printFilters();
         return new CommandResult(output);
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Id;
+import seedu.address.model.person.filter.IdContainsDigitsPredicate;
+
+/**
+ * Finds and lists all persons in address book connected to the person with the specified id through any chain
+ * of relations, including the person.
+ */
+public class ShowClusterCommand extends Command {
+
+    public static final String COMMAND_WORD = "showcluster";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds all persons connected to the person with the specified id through any chain of relations, "
+            + "including the person.\n"
+            + "Parameters: " + PREFIX_ID + "ID\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ID + "1";
+
+    private final Id id;
+
+    public ShowClusterCommand(Id id) {
+        requireNonNull(id);
+        this.id = id;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasId(id)) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_PERSON_ID, id.value));
+        }
+
+        int[] clusterIds = model.getRelatedIdTuples().getClusterIdValues(id);
+
+        // reset user view from any previous commands
+        model.clearFilter();
+
+        model.stackFilters(new IdContainsDigitsPredicate(clusterIds));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ShowClusterCommand)) {
+            return false;
+        }
+
+        ShowClusterCommand otherCommand = (ShowClusterCommand) other;
+        return id.equals(otherCommand.id);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("id", id)
+                .toString();
+    }
+}
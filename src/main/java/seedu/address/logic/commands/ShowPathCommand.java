@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Id;
+import seedu.address.model.person.filter.IdContainsDigitsPredicate;
+
+/**
+ * Finds and lists the persons on a shortest chain of relations between the two persons with the specified ids.
+ */
+public class ShowPathCommand extends Command {
+
+    public static final String COMMAND_WORD = "showpath";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the persons on a shortest chain of relations between the two persons with the specified ids.\n"
+            + "Both unique IDs must exist.\n"
+            + "Parameters: " + PREFIX_ID + "ID_1 " + PREFIX_ID + "ID_2\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ID + "4 " + PREFIX_ID + "12";
+
+    public static final String MESSAGE_PATH_FOUND = "Shortest path (%1$d relation(s)): %2$s";
+    public static final String MESSAGE_NO_PATH = "There is no chain of relations between id %1$d and id %2$d";
+
+    private final Id firstPersonId;
+    private final Id secondPersonId;
+
+    /**
+     * Creates a ShowPathCommand to find a shortest chain of relations between {@code firstPersonId} and
+     * {@code secondPersonId}.
+     */
+    public ShowPathCommand(Id firstPersonId, Id secondPersonId) {
+        requireNonNull(firstPersonId);
+        requireNonNull(secondPersonId);
+        this.firstPersonId = firstPersonId;
+        this.secondPersonId = secondPersonId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasId(firstPersonId)) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_PERSON_ID, firstPersonId.value));
+        } else if (!model.hasId(secondPersonId)) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_PERSON_ID, secondPersonId.value));
+        }
+
+        int[] path = model.getRelatedIdTuples().getShortestPath(firstPersonId, secondPersonId);
+        if (path.length == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_PATH, firstPersonId.value, secondPersonId.value));
+        }
+
+        // reset user view from any previous commands
+        model.clearFilter();
+
+        model.stackFilters(new IdContainsDigitsPredicate(path));
+        String chain = Arrays.stream(path).mapToObj(String::valueOf).collect(Collectors.joining(" -> "));
+        return new CommandResult(String.format(MESSAGE_PATH_FOUND, path.length - 1, chain));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ShowPathCommand)) {
+            return false;
+        }
+
+        ShowPathCommand otherCommand = (ShowPathCommand) other;
+        return firstPersonId.equals(otherCommand.firstPersonId)
+                && secondPersonId.equals(otherCommand.secondPersonId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("firstPersonId", firstPersonId)
+                .add("secondPersonId", secondPersonId)
+                .toString();
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPTH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 
-import java.util.List;
+import java.util.Arrays;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -14,21 +16,56 @@ import seedu.address.model.person.filter.IdContainsDigitsPredicate;
 import seedu.address.model.util.RelatedList;
 
 /**
- * Finds and lists all persons in address book related to the person with the specified id.
+ * Finds and lists all persons in address book within a number of relations of the person with the specified id.
  */
 public class ShowRelatedCommand extends Command {
 
     public static final String COMMAND_WORD = "showrelated";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Finds all persons related to person with the specified id.\n"
-            + "Parameters: i/ID\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_ID + "1";
+            + ": Finds all persons related to person with the specified id, "
+            + "directly or through up to DEPTH relations (default 1).\n"
+            + "The search stops after reaching LIMIT persons (default " + ShowRelatedCommand.DEFAULT_FRONTIER_CAP
+            + ").\n"
+            + "Parameters: " + PREFIX_ID + "ID [" + PREFIX_DEPTH + "DEPTH] [" + PREFIX_LIMIT + "LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ID + "1 " + PREFIX_DEPTH + "2 " + PREFIX_LIMIT + "500";
+
+    public static final String MESSAGE_LIMIT_REACHED = "Search stopped after reaching %1$d persons.";
+
+    public static final int DEFAULT_DEPTH = 1;
+
+    /** Maximum number of persons a search reaches before it stops expanding further relations. */
+    public static final int DEFAULT_FRONTIER_CAP = 1000;
 
     private final Id id;
+    private final int depth;
+    private final int frontierCap;
 
+    /**
+     * Creates a ShowRelatedCommand to list the persons directly related to the person with {@code id}.
+     */
     public ShowRelatedCommand(Id id) {
+        this(id, DEFAULT_DEPTH);
+    }
+
+    /**
+     * Creates a ShowRelatedCommand to list the persons within {@code depth} relations of the person with
+     * {@code id}.
+     */
+    public ShowRelatedCommand(Id id, int depth) {
+        this(id, depth, DEFAULT_FRONTIER_CAP);
+    }
+
+    /**
+     * Creates a ShowRelatedCommand to list at most {@code frontierCap} persons within {@code depth} relations
+     * of the person with {@code id}.
+     */
+    public ShowRelatedCommand(Id id, int depth, int frontierCap) {
+        requireNonNull(id);
+        assert depth > 0 && frontierCap > 0;
         this.id = id;
+        this.depth = depth;
+        this.frontierCap = frontierCap;
     }
 
     @Override
@@ -37,15 +74,25 @@ public class ShowRelatedCommand extends Command {
 
         RelatedList relatedList = model.getRelatedIdTuples();
 
-        List<Integer> relatedIds = relatedList.getAllRelatedIds(relatedList, id);
+        // search for one more person than the cap, to tell a truncated search from one that reached exactly
+        // frontierCap persons
+        int searchLimit = frontierCap == Integer.MAX_VALUE ? frontierCap : frontierCap + 1;
+        int[] relatedIds = relatedList.getIdValuesWithinDepth(id, depth, searchLimit);
+        boolean isTruncated = relatedIds.length > frontierCap;
+        if (isTruncated) {
+            relatedIds = Arrays.copyOf(relatedIds, frontierCap);
+        }
         IdContainsDigitsPredicate predicate = new IdContainsDigitsPredicate(relatedIds);
 
         // reset user view from any previous commands
         model.clearFilter();
 
         model.stackFilters(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (isTruncated) {
+            message += "\n" + String.format(MESSAGE_LIMIT_REACHED, frontierCap);
+        }
+        return new CommandResult(message);
     }
 
     @Override
@@ -59,13 +106,17 @@ public class ShowRelatedCommand extends Command {
         }
 
         ShowRelatedCommand otherCommand = (ShowRelatedCommand) other;
-        return id.equals(otherCommand.id);
+        return id.equals(otherCommand.id)
+                && depth == otherCommand.depth
+                && frontierCap == otherCommand.frontierCap;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("id", id)
+                .add("depth", depth)
+                .add("frontierCap", frontierCap)
                 .toString();
     }
 }
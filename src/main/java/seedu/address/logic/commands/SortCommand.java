@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.SortField;
+
+/**
+ * Sorts the persons shown by a field. The order is kept until the next sort.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the persons shown by the given field, "
+            + "in alphabetical order ignoring case, or by id.\n"
+            + "Persons without the field, such as clients when sorting by department, are shown last.\n"
+            + "Parameters: FIELD (one of id, name, phone, email, role, department, job)\n"
+            + "Example: " + COMMAND_WORD + " name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+
+    private final SortField field;
+
+    /**
+     * Creates a SortCommand to sort the persons shown by {@code field}.
+     */
+    public SortCommand(SortField field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortPersons(field);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, field.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return field.equals(otherSortCommand.field);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .toString();
+    }
+}
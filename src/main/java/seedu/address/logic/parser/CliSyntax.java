@@ -21,5 +21,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_ROLE = new Prefix("role/");
     public static final Prefix PREFIX_SKILLS = new Prefix("skills/");
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
+    public static final Prefix PREFIX_DEPTH = new Prefix("depth/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
 
 }
@@ -2,24 +2,34 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCTS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILLS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
+import seedu.address.model.person.Products;
+import seedu.address.model.person.Skills;
+import seedu.address.model.person.filter.EmailMatchesKeywordsPredicate;
 import seedu.address.model.person.filter.NameContainsKeywordsPredicate;
+import seedu.address.model.person.filter.NameFuzzyMatchesKeywordsPredicate;
 import seedu.address.model.person.filter.NetConnectPredicate;
 import seedu.address.model.person.filter.PhoneMatchesDigitsPredicate;
+import seedu.address.model.person.filter.ProductsContainsKeywordsPredicate;
 import seedu.address.model.person.filter.RemarkContainsKeywordsPredicate;
 import seedu.address.model.person.filter.RoleMatchesKeywordsPredicate;
+import seedu.address.model.person.filter.SkillsContainsKeywordsPredicate;
 import seedu.address.model.person.filter.TagsContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -28,6 +38,13 @@ import seedu.address.model.tag.Tag;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_MIXED_FUZZY_NAMES = "Either all or none of the names to find should end with "
+            + NameFuzzyMatchesKeywordsPredicate.FUZZY_MARKER;
+
+    /** Prefixes of the fields that persons can be found by, in the order they are checked. */
+    static final List<Prefix> FIELD_PREFIXES = List.of(PREFIX_NAME, PREFIX_TAG, PREFIX_ROLE, PREFIX_REMARK,
+            PREFIX_PHONE, PREFIX_EMAIL, PREFIX_SKILLS, PREFIX_PRODUCTS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -36,8 +53,15 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.startsWith(PREFIX_QUERY.getPrefix())) {
+            String query = trimmedArgs.substring(PREFIX_QUERY.getPrefix().length());
+            return new FindCommand(new FindQueryParser().parse(query));
+        }
+
         ArgumentMultimap argMultimap = ArgumentTokenizer
-                .tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_TAG, PREFIX_ROLE, PREFIX_REMARK);
+                .tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG, PREFIX_ROLE, PREFIX_REMARK,
+                        PREFIX_SKILLS, PREFIX_PRODUCTS);
         argMultimap.verifyOnlyOnePrefix();
 
         return new FindCommand(createPredicate(argMultimap));
@@ -51,37 +75,86 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     private static NetConnectPredicate<Person> createPredicate(
             ArgumentMultimap argMultimap) throws ParseException {
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            List<String> names = argMultimap.getAllValues(PREFIX_NAME);
-            if (!names.stream().allMatch(Name::isValidName)) {
-                throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+        for (Prefix prefix : FIELD_PREFIXES) {
+            if (argMultimap.getValue(prefix).isPresent()) {
+                return createFieldPredicate(prefix, argMultimap.getAllValues(prefix));
             }
-            return new NameContainsKeywordsPredicate(names);
-        } else if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            List<String> tags = argMultimap.getAllValues(PREFIX_TAG);
-            if (!tags.stream().allMatch(Tag::isValidTagName)) {
+        }
+        // no field provided
+        throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Creates the NetConnectPredicate that matches persons with any of {@code values} in the field of
+     * {@code prefix}, which is one of {@link #FIELD_PREFIXES}.
+     *
+     * @throws ParseException if the given values are not valid
+     */
+    static NetConnectPredicate<Person> createFieldPredicate(Prefix prefix, List<String> values)
+            throws ParseException {
+        if (prefix.equals(PREFIX_NAME)) {
+            return createNamePredicate(values);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            if (!values.stream().allMatch(Tag::isValidTagName)) {
                 throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
             }
-            return new TagsContainsKeywordsPredicate(tags);
-        } else if (argMultimap.getValue(PREFIX_ROLE).isPresent()) {
-            List<String> roles = argMultimap.getAllValues(PREFIX_ROLE);
-            if (!roles.stream().allMatch(Person::isValidRole)) {
+            return new TagsContainsKeywordsPredicate(values);
+        } else if (prefix.equals(PREFIX_ROLE)) {
+            if (!values.stream().allMatch(Person::isValidRole)) {
                 throw new ParseException(Person.MESSAGE_ROLE_CONSTRAINTS);
             }
-            return new RoleMatchesKeywordsPredicate(roles);
-        } else if (argMultimap.getValue(PREFIX_REMARK).isPresent()) {
-            List<String> remarks = argMultimap.getAllValues(PREFIX_REMARK);
-            return new RemarkContainsKeywordsPredicate(remarks);
-        } else if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
-            List<String> phones = argMultimap.getAllValues(PREFIX_PHONE);
-            if (!phones.stream().allMatch(Phone::isValidPhone)) {
-                throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
+            return new RoleMatchesKeywordsPredicate(values);
+        } else if (prefix.equals(PREFIX_REMARK)) {
+            return new RemarkContainsKeywordsPredicate(values);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            if (!values.stream().allMatch(PhoneMatchesDigitsPredicate::isValidPhoneKeyword)) {
+                throw new ParseException(PhoneMatchesDigitsPredicate.MESSAGE_CONSTRAINTS);
+            }
+            return new PhoneMatchesDigitsPredicate(values);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            if (!values.stream().allMatch(EmailMatchesKeywordsPredicate::isValidEmailKeyword)) {
+                throw new ParseException(EmailMatchesKeywordsPredicate.MESSAGE_CONSTRAINTS);
             }
-            return new PhoneMatchesDigitsPredicate(phones);
-        } else {
-            // no field provided
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            return new EmailMatchesKeywordsPredicate(values);
+        } else if (prefix.equals(PREFIX_SKILLS)) {
+            if (!values.stream().allMatch(Skills::isValidSkills)) {
+                throw new ParseException(Skills.MESSAGE_CONSTRAINTS);
+            }
+            return new SkillsContainsKeywordsPredicate(values);
+        } else if (prefix.equals(PREFIX_PRODUCTS)) {
+            if (!Products.isValidProducts(values)) {
+                throw new ParseException(Products.MESSAGE_CONSTRAINTS);
+            }
+            return new ProductsContainsKeywordsPredicate(values);
+        }
+        throw new IllegalArgumentException("Not a field that can be found: " + prefix);
+    }
+
+    /**
+     * Creates the predicate for the given name keywords, which either all end with
+     * {@link NameFuzzyMatchesKeywordsPredicate#FUZZY_MARKER} to find names with typos, or none of them do.
+     *
+     * @throws ParseException if the given names are not valid
+     */
+    private static NetConnectPredicate<Person> createNamePredicate(List<String> names) throws ParseException {
+        String marker = NameFuzzyMatchesKeywordsPredicate.FUZZY_MARKER;
+        long fuzzyCount = names.stream().filter(name -> name.endsWith(marker)).count();
+        if (fuzzyCount == 0) {
+            if (!names.stream().allMatch(Name::isValidName)) {
+                throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+            }
+            return new NameContainsKeywordsPredicate(names);
+        }
+        if (fuzzyCount < names.size()) {
+            throw new ParseException(MESSAGE_MIXED_FUZZY_NAMES);
+        }
+        List<String> keywords = names.stream()
+                .map(name -> name.substring(0, name.length() - marker.length()).trim())
+                .collect(Collectors.toList());
+        if (!keywords.stream().allMatch(Name::isValidName)) {
+            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
+        return new NameFuzzyMatchesKeywordsPredicate(keywords);
     }
 }
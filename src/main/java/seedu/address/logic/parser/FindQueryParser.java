@@ -0,0 +1,158 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.filter.AndPredicate;
+import seedu.address.model.person.filter.NetConnectPredicate;
+import seedu.address.model.person.filter.NotPredicate;
+import seedu.address.model.person.filter.OrPredicate;
+
+/**
+ * Parses a find query, which combines find fields with {@code AND}, {@code OR}, {@code NOT} and parentheses,
+ * into a single predicate.
+ * <p>
+ * A field is written as in the find command, e.g. {@code n/alex} or {@code r/has a dog}, and its value runs
+ * until the next operator, parenthesis or field. {@code NOT} binds tightest and {@code OR} loosest. Fields
+ * written one after another without an operator between them are combined with {@code AND}. Operators are
+ * only recognised in upper case, so that words such as "not" can still be found in remarks.
+ * <pre>
+ * query   := or
+ * or      := and ("OR" and)*
+ * and     := unary (["AND"] unary)*
+ * unary   := "NOT" unary | "(" or ")" | field
+ * </pre>
+ */
+public class FindQueryParser {
+
+    public static final String MESSAGE_EMPTY_QUERY = "Query should not be empty";
+    public static final String MESSAGE_EXPECTED_FIELD = "Expected a field, NOT or ( in the query at: %1$s";
+    public static final String MESSAGE_UNMATCHED_PARENTHESIS = "Query has an unmatched parenthesis";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String END_OF_QUERY = "end of query";
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses {@code query} into a predicate that matches the persons the query describes.
+     *
+     * @throws ParseException if {@code query} is not a valid query, or a field in it has an invalid value
+     */
+    public NetConnectPredicate<Person> parse(String query) throws ParseException {
+        requireNonNull(query);
+        tokens = tokenize(query);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_QUERY);
+        }
+        NetConnectPredicate<Person> predicate = parseOr();
+        if (hasNext()) {
+            throw peek().equals(CLOSE)
+                    ? new ParseException(MESSAGE_UNMATCHED_PARENTHESIS)
+                    : new ParseException(String.format(MESSAGE_EXPECTED_FIELD, peek()));
+        }
+        return predicate;
+    }
+
+    /**
+     * Splits {@code query} into words, with each parenthesis as a word of its own.
+     */
+    private static List<String> tokenize(String query) {
+        String spaced = query.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ");
+        return Arrays.stream(spaced.trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private NetConnectPredicate<Person> parseOr() throws ParseException {
+        List<NetConnectPredicate<Person>> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (hasNext() && peek().equals(OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrPredicate(operands);
+    }
+
+    private NetConnectPredicate<Person> parseAnd() throws ParseException {
+        List<NetConnectPredicate<Person>> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (hasNext() && !peek().equals(OR) && !peek().equals(CLOSE)) {
+            if (peek().equals(AND)) {
+                position++;
+            }
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndPredicate(operands);
+    }
+
+    private NetConnectPredicate<Person> parseUnary() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(String.format(MESSAGE_EXPECTED_FIELD, END_OF_QUERY));
+        }
+        String token = peek();
+        if (token.equals(NOT)) {
+            position++;
+            return new NotPredicate(parseUnary());
+        }
+        if (token.equals(OPEN)) {
+            position++;
+            NetConnectPredicate<Person> inner = parseOr();
+            if (!hasNext() || !peek().equals(CLOSE)) {
+                throw new ParseException(MESSAGE_UNMATCHED_PARENTHESIS);
+            }
+            position++;
+            return inner;
+        }
+        return parseField();
+    }
+
+    /**
+     * Parses a field and its value, which runs until the next operator, parenthesis or field.
+     */
+    private NetConnectPredicate<Person> parseField() throws ParseException {
+        String token = peek();
+        Prefix prefix = fieldPrefixOf(token)
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_EXPECTED_FIELD, token)));
+        position++;
+        List<String> words = new ArrayList<>();
+        words.add(token.substring(prefix.getPrefix().length()));
+        while (hasNext() && !isOperator(peek()) && fieldPrefixOf(peek()).isEmpty()) {
+            words.add(peek());
+            position++;
+        }
+        String value = String.join(" ", words).trim();
+        return FindCommandParser.createFieldPredicate(prefix, List.of(value));
+    }
+
+    private static Optional<Prefix> fieldPrefixOf(String word) {
+        return FindCommandParser.FIELD_PREFIXES.stream()
+                .filter(prefix -> word.startsWith(prefix.getPrefix()))
+                .findFirst();
+    }
+
+    private static boolean isOperator(String word) {
+        return word.equals(AND) || word.equals(OR) || word.equals(NOT) || word.equals(OPEN) || word.equals(CLOSE);
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+}
@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClusterStatsCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -19,7 +20,10 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RelateCommand;
+import seedu.address.logic.commands.ShowClusterCommand;
+import seedu.address.logic.commands.ShowPathCommand;
 import seedu.address.logic.commands.ShowRelatedCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UnrelateCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -82,9 +86,21 @@ public class NetConnectParser {
         case ShowRelatedCommand.COMMAND_WORD:
             return new ShowRelatedCommandParser().parse(arguments);
 
+        case ShowPathCommand.COMMAND_WORD:
+            return new ShowPathCommandParser().parse(arguments);
+
+        case ShowClusterCommand.COMMAND_WORD:
+            return new ShowClusterCommandParser().parse(arguments);
+
+        case ClusterStatsCommand.COMMAND_WORD:
+            return new ClusterStatsCommand();
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
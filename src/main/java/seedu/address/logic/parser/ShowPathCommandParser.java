@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+
+import java.util.List;
+
+import seedu.address.logic.commands.ShowPathCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Id;
+
+/**
+ * Parses input arguments and creates a new ShowPathCommand object
+ */
+public class ShowPathCommandParser implements Parser<ShowPathCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShowPathCommand
+     * and returns a ShowPathCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShowPathCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ID);
+        List<String> ids = argMultimap.getAllValues(PREFIX_ID);
+
+        if (ids.size() != 2 || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowPathCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Id firstId = ParserUtil.parseId(ids.get(0));
+            Id secondId = ParserUtil.parseId(ids.get(1));
+            return new ShowPathCommand(firstId, secondId);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(
+                    MESSAGE_INVALID_COMMAND_FORMAT, ShowPathCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPTH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.ShowRelatedCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Id;
@@ -21,8 +24,8 @@ public class ShowRelatedCommandParser implements Parser<ShowRelatedCommand> {
     public ShowRelatedCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ID);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ID);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ID, PREFIX_DEPTH, PREFIX_LIMIT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ID, PREFIX_DEPTH, PREFIX_LIMIT);
 
         if (argMultimap.getValue(PREFIX_ID).isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowRelatedCommand.MESSAGE_USAGE));
@@ -30,11 +33,30 @@ public class ShowRelatedCommandParser implements Parser<ShowRelatedCommand> {
 
         try {
             Id id = ParserUtil.parseId(argMultimap.getValue(PREFIX_ID).get());
-            return new ShowRelatedCommand(id);
+            int depth = parsePositiveInteger(argMultimap, PREFIX_DEPTH, ShowRelatedCommand.DEFAULT_DEPTH);
+            int frontierCap = parsePositiveInteger(argMultimap, PREFIX_LIMIT, ShowRelatedCommand.DEFAULT_FRONTIER_CAP);
+            return new ShowRelatedCommand(id, depth, frontierCap);
         } catch (ParseException pe) {
             throw new ParseException(String.format(
                     MESSAGE_INVALID_COMMAND_FORMAT, ShowRelatedCommand.MESSAGE_USAGE), pe);
         }
     }
+
+    /**
+     * Returns the positive integer given for {@code prefix}, or {@code defaultValue} if none is given.
+     *
+     * @throws ParseException if the value given is not a positive integer
+     */
+    private static int parsePositiveInteger(ArgumentMultimap argMultimap, Prefix prefix, int defaultValue)
+            throws ParseException {
+        if (argMultimap.getValue(prefix).isEmpty()) {
+            return defaultValue;
+        }
+        String value = argMultimap.getValue(prefix).get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(value)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowRelatedCommand.MESSAGE_USAGE));
+        }
+        return Integer.parseInt(value);
+    }
 }
 
@@ -7,7 +7,6 @@ import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.person.Client;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.Person;
@@ -23,15 +22,15 @@ public class CsvExporter {
 
     private boolean isSuccessful = false;
 
-    private final FilteredList<Person> persons;
+    private final List<Person> persons;
 
     /**
      * Constructs a CSVExporter object with the specified list of persons and filename.
      *
-     * @param persons  The list of persons to be exported to CSV.
+     * @param persons  The list of persons to be exported to CSV, in the order they are written.
      * @param filename The filename for the CSV file to be created.
      */
-    public CsvExporter(FilteredList<Person> persons, String filename) {
+    public CsvExporter(List<Person> persons, String filename) {
         this.persons = persons;
         this.filename = filename;
     }
@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Id;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.filter.NetConnectPredicate;
 import seedu.address.model.util.IdTuple;
 import seedu.address.model.util.RelatedList;
@@ -123,6 +126,42 @@ public interface Model {
      */
     void stackFilters(NetConnectPredicate<Person> predicate);
 
+    /**
+     * Returns the number of persons matching {@code predicate}.
+     * The filtered person list is not changed.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    int countPersons(NetConnectPredicate<Person> predicate);
+
+    /**
+     * Returns a page of the persons matching {@code predicate}, ordered by id: at most {@code limit} persons,
+     * after skipping the first {@code offset} matches. Persons after the page are not tested, and the
+     * filtered person list is not changed.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalArgumentException if {@code offset} or {@code limit} is negative.
+     */
+    List<Person> getPersons(NetConnectPredicate<Person> predicate, int offset, int limit);
+
+    /**
+     * Sorts the filtered person list by {@code field}, then by id. The order is kept as persons are added, edited
+     * and deleted, and as the filter changes.
+     *
+     * @throws NullPointerException if {@code field} is null.
+     */
+    void sortPersons(SortField field);
+
+    /**
+     * Orders the filtered person list by {@code relevance}, most relevant first, until the filter is cleared or
+     * the persons are sorted by a field. Persons of equal relevance keep the order of the last sort, or are
+     * ordered by id if the persons were never sorted.
+     * {@code relevance} must always order a given {@code Person} the same way.
+     *
+     * @throws NullPointerException if {@code relevance} is null.
+     */
+    void rankPersons(Comparator<Person> relevance);
+
     /**
      * Returns the current filters applied in a user readable format.
      */
@@ -130,6 +169,7 @@ public interface Model {
 
     /**
      * Exports the data from the address book as a CSV file with the specified filename.
+     * The persons in the filtered person list are written in the order they are shown.
      * Returns {@code true} if the export operation is successful, {@code false} otherwise.
      */
     boolean exportCsv(String filename);
@@ -1,21 +1,34 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.utils.CsvExporter;
 import seedu.address.model.person.Id;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.filter.Filter;
+import seedu.address.model.person.filter.FilterResultCache;
+import seedu.address.model.person.filter.IndexedFilterResult;
 import seedu.address.model.person.filter.NetConnectPredicate;
+import seedu.address.model.person.filter.ParallelFilterEvaluator;
+import seedu.address.model.person.index.PersonIndex;
 import seedu.address.model.util.IdTuple;
 import seedu.address.model.util.RelatedList;
 
@@ -25,10 +38,18 @@ import seedu.address.model.util.RelatedList;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    private static final String MESSAGE_INVALID_PAGE = "Page offset and limit should not be negative";
+
     private final NetConnect netConnect;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final ParallelFilterEvaluator filterEvaluator = new ParallelFilterEvaluator();
+    private final FilterResultCache filterResults = new FilterResultCache();
     private Filter filter = Filter.noFilter();
+    /** Order of the last sort by a field, or null if the persons were never sorted. */
+    private Comparator<Person> fieldOrder;
+    private boolean isRanked = false;
 
     /**
      * Initializes a ModelManager with the given netConnect and userPrefs.
@@ -43,6 +64,7 @@ public class ModelManager implements Model {
         this.netConnect = new NetConnect(netConnect);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.netConnect.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -149,7 +171,7 @@ public class ModelManager implements Model {
     @Override
     public boolean exportCsv(String filename) {
         requireNonNull(filename);
-        CsvExporter exporter = new CsvExporter(filteredPersons, filename);
+        CsvExporter exporter = new CsvExporter(sortedPersons, filename);
         exporter.execute();
         return exporter.getIsSuccessful();
     }
@@ -185,25 +207,168 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the
-     * internal list of {@code versionedNetConnect}
+     * internal list of {@code versionedNetConnect}, in the order of the last sort
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void clearFilter() {
         filter = Filter.noFilter();
-        filteredPersons.setPredicate(filter);
+        applyFilter();
+        if (isRanked) {
+            isRanked = false;
+            sortedPersons.setComparator(fieldOrder);
+        }
     }
 
     @Override
     public void stackFilters(NetConnectPredicate<Person> predicate) {
         requireNonNull(predicate);
 
+        boolean isFiltered = filter.size() > 0;
         filter = filter.add(predicate);
-        filteredPersons.setPredicate(filter);
+        if (isFiltered) {
+            narrowFilter(predicate);
+        } else {
+            applyFilter();
+        }
+    }
+
+    /**
+     * Updates the filtered person list to show the persons matching {@code filter}, after {@code predicate}
+     * was added to it.
+     * Persons hidden by the earlier predicates stay hidden, so only the persons currently shown are tested
+     * against {@code predicate}.
+     */
+    private void narrowFilter(NetConnectPredicate<Person> predicate) {
+        PersonIndex index = netConnect.getPersonIndex();
+        Optional<BitSet> cachedIds = filterResults.get(filter, index.getVersion());
+        BitSet shownIds = cachedIds.isPresent()
+                ? cachedIds.get()
+                : filterEvaluator.evaluate(new ArrayList<>(filteredPersons), predicate);
+        filterResults.put(filter, index.getVersion(), shownIds);
+        filteredPersons.setPredicate(new IndexedFilterResult(filter, shownIds, index));
+    }
+
+    /**
+     * Updates the filtered person list to show the persons matching {@code filter}.
+     * If the filter was applied before and the persons have not changed since, its recorded result is shown
+     * again. Otherwise, the filter is planned against the person index, so that predicates that can be answered
+     * from the index are looked up there once instead of being tested on every person. Any remaining predicates
+     * are tested in parallel on the candidates found in the index, or on all persons if nothing could be looked
+     * up, with the calling thread waiting for the result. The matching ids are then published to the list in a
+     * single update.
+     */
+    private void applyFilter() {
+        if (filter.size() == 0) {
+            filteredPersons.setPredicate(filter);
+            return;
+        }
+        BitSet matchingIds = matchingIdsOf(filter);
+        filteredPersons.setPredicate(new IndexedFilterResult(filter, matchingIds, netConnect.getPersonIndex()));
+    }
+
+    /**
+     * Returns the ids of all persons matching {@code filter}, which must not be modified.
+     */
+    private BitSet matchingIdsOf(Filter filter) {
+        PersonIndex index = netConnect.getPersonIndex();
+        Optional<BitSet> cachedIds = filterResults.get(filter, index.getVersion());
+        BitSet matchingIds = cachedIds.isPresent() ? cachedIds.get() : computeMatchingIds(filter, index);
+        filterResults.put(filter, index.getVersion(), matchingIds);
+        return matchingIds;
+    }
+
+    private BitSet computeMatchingIds(Filter filter, PersonIndex index) {
+        Predicate<Person> planned = filter.plan(index);
+        if (!(planned instanceof IndexedFilterResult)) {
+            return filterEvaluator.evaluate(netConnect.getPersonList(), planned);
+        }
+        IndexedFilterResult result = (IndexedFilterResult) planned;
+        if (!result.hasResidual()) {
+            return result.getCandidateIds();
+        }
+        return filterEvaluator.evaluateCandidates(result, id -> netConnect.getPersonById(Id.generateTempId(id)));
+    }
+
+    /**
+     * Counts the matches without recording them in the cache of applied filters, so that one-off queries do not
+     * evict the results of filters shown in the list.
+     */
+    @Override
+    public int countPersons(NetConnectPredicate<Person> predicate) {
+        requireNonNull(predicate);
+        return computeMatchingIds(Filter.of(List.of(predicate)), netConnect.getPersonIndex()).cardinality();
+    }
+
+    /**
+     * Walks the ids of the candidates planned from the person index, or of all persons if no part of
+     * {@code predicate} can be answered from the index, in increasing order. Only candidates that need it are
+     * tested, and the walk stops once the page is full, so at most {@code offset + limit} matches are visited.
+     * Nothing is recorded in the cache of applied filters.
+     */
+    @Override
+    public List<Person> getPersons(NetConnectPredicate<Person> predicate, int offset, int limit) {
+        requireNonNull(predicate);
+        checkArgument(offset >= 0 && limit >= 0, MESSAGE_INVALID_PAGE);
+        List<Person> page = new ArrayList<>();
+        if (limit == 0) {
+            return page;
+        }
+
+        PersonIndex index = netConnect.getPersonIndex();
+        Predicate<Person> planned = Filter.of(List.of(predicate)).plan(index);
+        boolean isIndexed = planned instanceof IndexedFilterResult;
+        BitSet candidateIds = isIndexed ? ((IndexedFilterResult) planned).getCandidateIds() : index.allIds();
+        boolean isExact = isIndexed && !((IndexedFilterResult) planned).hasResidual();
+
+        int toSkip = offset;
+        for (int id = candidateIds.nextSetBit(0); id >= 0; id = candidateIds.nextSetBit(id + 1)) {
+            if (isExact && toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            Person person = netConnect.getPersonById(Id.generateTempId(id));
+            if (!isExact && !planned.test(person)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+                continue;
+            }
+            page.add(person);
+            if (page.size() == limit) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Sorts the shown persons by {@code field}.
+     * The sorted list sits on top of the filtered list and compares the sort keys kept in the person index, so
+     * the whole list is only sorted here. Afterwards, a person that is added, edited or shown by a new filter is
+     * placed by a binary search over the sorted persons rather than by sorting them again.
+     */
+    @Override
+    public void sortPersons(SortField field) {
+        requireNonNull(field);
+        fieldOrder = netConnect.getPersonIndex().getSortKeyIndex().comparatorFor(field);
+        isRanked = false;
+        sortedPersons.setComparator(fieldOrder);
+    }
+
+    @Override
+    public void rankPersons(Comparator<Person> relevance) {
+        requireNonNull(relevance);
+        Comparator<Person> tieOrder = fieldOrder != null
+                ? fieldOrder
+                : netConnect.getPersonIndex().getSortKeyIndex().comparatorFor(SortField.ID);
+        isRanked = true;
+        sortedPersons.setComparator(relevance.thenComparing(tieOrder));
     }
 
     @Override
@@ -225,7 +390,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return netConnect.equals(otherModelManager.netConnect)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
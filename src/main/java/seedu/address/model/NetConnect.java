@@ -10,6 +10,7 @@ import seedu.address.model.person.Id;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.index.PersonIndex;
 import seedu.address.model.util.IdTuple;
 import seedu.address.model.util.RelatedList;
 
@@ -197,6 +198,13 @@ public class NetConnect implements ReadOnlyNetConnect {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the field indexes over the persons in NetConnect.
+     */
+    public PersonIndex getPersonIndex() {
+        return persons.getPersonIndex();
+    }
+
     /**
      * Returns a list of IdTuple objects.
      *
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A field that the persons shown can be sorted by.
+ * Every field except {@link #ID} is text, compared in alphabetical order ignoring case. Persons without a value
+ * for a text field, such as clients when sorting by department, are placed after those with one.
+ */
+public enum SortField {
+    ID("id", person -> null),
+    NAME("name", person -> person.getName().fullName),
+    PHONE("phone", person -> person.getPhone().value),
+    EMAIL("email", person -> person.getEmail().value),
+    ROLE("role", Person::getRole),
+    DEPARTMENT("department", person -> person instanceof Employee
+            ? ((Employee) person).getDepartment().toString() : null),
+    JOB_TITLE("job", person -> person instanceof Employee
+            ? ((Employee) person).getJobTitle().toString() : null);
+
+    public static final String MESSAGE_CONSTRAINTS = "Persons can only be sorted by one of: "
+            + Arrays.stream(values()).map(SortField::getKeyword).collect(Collectors.joining(", "));
+
+    private final String keyword;
+    private final Function<Person, String> textOf;
+
+    SortField(String keyword, Function<Person, String> textOf) {
+        this.keyword = keyword;
+        this.textOf = textOf;
+    }
+
+    /**
+     * Returns the field written as {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<SortField> fromKeyword(String keyword) {
+        return Arrays.stream(values()).filter(field -> field.keyword.equalsIgnoreCase(keyword)).findFirst();
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns true if the field is compared as text.
+     */
+    public boolean isText() {
+        return this != ID;
+    }
+
+    /**
+     * Returns the text of the field for {@code person}, if {@code person} has a value for it.
+     */
+    public Optional<String> textOf(Person person) {
+        return Optional.ofNullable(textOf.apply(person));
+    }
+}
@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -12,6 +19,7 @@ import seedu.address.model.person.exceptions.DuplicateIdException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.IdModifiedException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -30,12 +38,24 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Position of each person in {@code internalList}, keyed by the person's id. */
+    private final Map<Id, Integer> idToIndex = new HashMap<>();
+
+    /** Persons in {@code internalList}, keyed by the identity fields used in {@code Person#isSamePerson}. */
+    private final Map<IdentityKey, Person> identityIndex = new HashMap<>();
+
+    /** Persons in {@code internalList}, grouped by their case-folded name. */
+    private final Map<String, List<Person>> nameIndex = new HashMap<>();
+
+    /** Field indexes used to answer filters without testing every person. */
+    private final PersonIndex personIndex = new PersonIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(IdentityKey.of(toCheck));
     }
 
     /**
@@ -43,7 +63,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasId(Id toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().map(Person::getId).anyMatch(id -> id.equals(toCheck));
+        return idToIndex.containsKey(toCheck);
     }
 
     /**
@@ -53,18 +73,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person getPersonById(Id id) {
         requireNonNull(id);
-        return internalList.stream().filter(p -> p.getId().equals(id))
-                .findFirst().orElseThrow(PersonNotFoundException::new);
+        Integer index = idToIndex.get(id);
+        if (index == null) {
+            throw new PersonNotFoundException();
+        }
+        return internalList.get(index);
     }
 
     /**
-     * Returns true if the list has exactly one {@code Person}
-     * with the specified name. The check is case-insensitive.
+     * Returns the number of persons in the list with the specified name.
+     * The check is case-insensitive.
      */
     public int countPersonsWithName(Name toCheck) {
         requireNonNull(toCheck);
-        return (int) internalList.stream()
-                .filter(p -> p.getName().fullName.equalsIgnoreCase(toCheck.fullName)).count();
+        return nameIndex.getOrDefault(foldName(toCheck), List.of()).size();
     }
 
     /**
@@ -75,12 +97,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person getPersonByName(Name name) {
         requireNonNull(name);
-        if (countPersonsWithName(name) != 1) {
+        List<Person> matches = nameIndex.getOrDefault(foldName(name), List.of());
+        if (matches.size() != 1) {
             throw new PersonNotFoundException();
         }
-        return internalList.stream()
-                .filter(p -> p.getName().fullName.equalsIgnoreCase(name.fullName))
-                .findFirst().orElseThrow(PersonNotFoundException::new);
+        return matches.get(0);
     }
 
     /**
@@ -95,7 +116,12 @@ public class UniquePersonList implements Iterable<Person> {
         if (hasId(toAdd.getId())) {
             throw new DuplicateIdException();
         }
+        // the person index is updated first, as list listeners may query it
+        personIndex.add(toAdd);
         internalList.add(toAdd);
+        idToIndex.put(toAdd.getId(), internalList.size() - 1);
+        identityIndex.put(IdentityKey.of(toAdd), toAdd);
+        addToNameIndex(toAdd);
     }
 
     /**
@@ -107,7 +133,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -120,7 +146,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new IdModifiedException();
         }
 
-        internalList.set(index, editedPerson);
+        personIndex.remove(internalList.get(index));
+        personIndex.add(editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        identityIndex.remove(IdentityKey.of(replaced));
+        identityIndex.put(IdentityKey.of(editedPerson), editedPerson);
+        removeFromNameIndex(replaced);
+        addToNameIndex(editedPerson);
     }
 
     /**
@@ -129,14 +161,32 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        personIndex.remove(internalList.get(index));
+        Person removed = internalList.remove(index);
+        idToIndex.remove(removed.getId());
+        identityIndex.remove(IdentityKey.of(removed));
+        removeFromNameIndex(removed);
+        reindexFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personIndex.clear();
+        replacement.internalList.forEach(personIndex::add);
         internalList.setAll(replacement.internalList);
+        idToIndex.clear();
+        idToIndex.putAll(replacement.idToIndex);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        nameIndex.clear();
+        replacement.internalList.forEach(this::addToNameIndex);
     }
 
     /**
@@ -152,7 +202,25 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicateIdException();
         }
 
+        personIndex.clear();
+        persons.forEach(personIndex::add);
         internalList.setAll(persons);
+        idToIndex.clear();
+        reindexFrom(0);
+        identityIndex.clear();
+        nameIndex.clear();
+        for (Person person : persons) {
+            identityIndex.put(IdentityKey.of(person), person);
+            addToNameIndex(person);
+        }
+    }
+
+    /**
+     * Returns the field indexes over the persons in this list.
+     * The indexes are kept up to date with the list and must not be modified by callers.
+     */
+    public PersonIndex getPersonIndex() {
+        return personIndex;
     }
 
     /**
@@ -192,15 +260,59 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     * Equal persons always share the same identity fields, so the identity index finds the only candidate.
+     */
+    private int indexOf(Person person) {
+        Person candidate = identityIndex.get(IdentityKey.of(person));
+        if (candidate == null || !candidate.equals(person)) {
+            return -1;
+        }
+        return idToIndex.get(candidate.getId());
+    }
+
+    /**
+     * Updates the id index for all persons from position {@code start} onwards.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            idToIndex.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns the key of {@code name} in the name index. Names only contain ASCII alphanumeric characters
+     * and spaces, so lower-casing them agrees with {@code String#equalsIgnoreCase}.
+     */
+    private static String foldName(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT);
+    }
+
+    private void addToNameIndex(Person person) {
+        nameIndex.computeIfAbsent(foldName(person.getName()), k -> new ArrayList<>()).add(person);
+    }
+
+    private void removeFromNameIndex(Person person) {
+        String key = foldName(person.getName());
+        List<Person> persons = nameIndex.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            nameIndex.remove(key);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(IdentityKey.of(person))) {
+                return false;
             }
         }
         return true;
@@ -212,4 +324,46 @@ public class UniquePersonList implements Iterable<Person> {
     private boolean idsAreUnique(List<Person> persons) {
         return persons.stream().map(Person::getId).distinct().count() == persons.size();
     }
+
+    /**
+     * The identity fields of a {@code Person}. Two persons have equal keys exactly when
+     * {@code Person#isSamePerson(Person)} holds between them.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+
+        private IdentityKey(Name name, Phone phone, Email email) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+        }
+
+        static IdentityKey of(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone(), person.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return name.equals(otherKey.name)
+                    && phone.equals(otherKey.phone)
+                    && email.equals(otherKey.email);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone, email);
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package seedu.address.model.person.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+
+/**
+ * Tests that a {@code Person} satisfies all of the given predicates.
+ * The predicates are tested cheapest first, and answered from the person index by intersecting their matches.
+ */
+public class AndPredicate extends NetConnectPredicate<Person> {
+
+    private final List<NetConnectPredicate<Person>> operands;
+    private final List<NetConnectPredicate<Person>> evaluationOrder;
+
+    /**
+     * Constructs an {@code AndPredicate} of at least one predicate.
+     */
+    public AndPredicate(List<NetConnectPredicate<Person>> operands) {
+        requireNonNull(operands);
+        if (operands.isEmpty()) {
+            throw new IllegalArgumentException("AndPredicate needs at least one operand");
+        }
+        this.operands = List.copyOf(operands);
+        List<NetConnectPredicate<Person>> ordered = new ArrayList<>(operands);
+        ordered.sort(Comparator.comparingInt(NetConnectPredicate::evaluationCost));
+        this.evaluationOrder = ordered;
+    }
+
+    public List<NetConnectPredicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public String formatFilter() {
+        return operands.stream()
+                .map(operand -> operand instanceof OrPredicate ? "(" + operand.formatFilter() + ")"
+                        : operand.formatFilter())
+                .collect(Collectors.joining(" AND "));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (NetConnectPredicate<Person> operand : evaluationOrder) {
+            if (!operand.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the intersection of the ids matched by each operand, if every operand can be answered from
+     * {@code index}. Negated operands are subtracted from the intersection of the others instead of being
+     * complemented first.
+     */
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        BitSet ids = null;
+        List<BitSet> excludedIds = new ArrayList<>();
+        for (NetConnectPredicate<Person> operand : evaluationOrder) {
+            boolean isNegated = operand instanceof NotPredicate;
+            Optional<BitSet> matched = isNegated
+                    ? ((NotPredicate) operand).getOperand().matchingIds(index)
+                    : operand.matchingIds(index);
+            if (matched.isEmpty()) {
+                return Optional.empty();
+            }
+            if (isNegated) {
+                excludedIds.add(matched.get());
+            } else if (ids == null) {
+                ids = matched.get();
+            } else {
+                ids.and(matched.get());
+            }
+        }
+        if (ids == null) {
+            ids = index.allIds();
+        }
+        for (BitSet excluded : excludedIds) {
+            ids.andNot(excluded);
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return operands.stream().mapToInt(NetConnectPredicate::evaluationCost).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndPredicate)) {
+            return false;
+        }
+
+        AndPredicate otherPredicate = (AndPredicate) other;
+        return operands.equals(otherPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
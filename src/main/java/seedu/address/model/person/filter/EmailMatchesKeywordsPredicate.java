@@ -0,0 +1,143 @@
+package seedu.address.model.person.filter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.EmailIndex;
+import seedu.address.model.person.index.PersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} matches any of the keywords given, ignoring case.
+ * A keyword is either a full email, which must match exactly, a local part followed by {@code @}, which
+ * matches every email with that local part, or a domain preceded by {@code @}, which matches every email at that
+ * domain or one of its subdomains.
+ */
+public class EmailMatchesKeywordsPredicate extends NetConnectPredicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Emails to find should be a full email, "
+            + "a local part followed by @ (e.g. alex@), or a domain preceded by @ (e.g. @example.com)";
+
+    private static final String AT = "@";
+    /** Domain used to validate a local part on its own. */
+    private static final String PLACEHOLDER_DOMAIN = "example.com";
+    /** Local part used to validate a domain on its own. */
+    private static final String PLACEHOLDER_LOCAL_PART = "user";
+
+    private final List<String> keywords;
+    /** {@code keywords} folded with {@link KeywordMatcher#fold}, so that testing a person does not fold them again. */
+    private final String[] foldedKeywords;
+
+    /**
+     * Constructs an {@code EmailMatchesKeywordsPredicate} with a list of keywords.
+     *
+     * @param keywords The list of keywords to match against the person's email.
+     */
+    public EmailMatchesKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+        this.foldedKeywords = this.keywords.stream().map(KeywordMatcher::fold).toArray(String[]::new);
+    }
+
+    /**
+     * Returns true if {@code keyword} is a full email, a local part followed by {@code @}, or a domain
+     * preceded by {@code @}.
+     */
+    public static boolean isValidEmailKeyword(String keyword) {
+        if (isDomain(keyword)) {
+            return Email.isValidEmail(PLACEHOLDER_LOCAL_PART + keyword);
+        } else if (isLocalPart(keyword)) {
+            return Email.isValidEmail(keyword + PLACEHOLDER_DOMAIN);
+        }
+        return Email.isValidEmail(keyword);
+    }
+
+    private static boolean isDomain(String keyword) {
+        return keyword.startsWith(AT);
+    }
+
+    private static boolean isLocalPart(String keyword) {
+        return keyword.endsWith(AT) && !isDomain(keyword);
+    }
+
+    @Override
+    public String formatFilter() {
+        return keywords.stream().map(keyword -> PREFIX_EMAIL + keyword).collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String address = KeywordMatcher.fold(person.getEmail().value);
+        for (String keyword : foldedKeywords) {
+            if (matches(address, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String address, String keyword) {
+        if (isDomain(keyword)) {
+            String domain = EmailIndex.domainOf(address);
+            String keywordDomain = keyword.substring(AT.length());
+            return domain.equals(keywordDomain) || domain.endsWith("." + keywordDomain);
+        } else if (isLocalPart(keyword)) {
+            return EmailIndex.localPartOf(address).equals(keyword.substring(0, keyword.length() - AT.length()));
+        }
+        return address.equals(keyword);
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        EmailIndex emailIndex = index.getEmailIndex();
+        BitSet ids = new BitSet();
+        for (String keyword : keywords) {
+            if (isDomain(keyword)) {
+                emailIndex.addIdsWithDomain(keyword.substring(AT.length()), ids);
+            } else if (isLocalPart(keyword)) {
+                emailIndex.addIdsWithLocalPart(keyword.substring(0, keyword.length() - AT.length()), ids);
+            } else {
+                emailIndex.addIdsWithAddress(keyword, ids);
+            }
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_SHORT_FIELD;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmailMatchesKeywordsPredicate)) {
+            return false;
+        }
+
+        EmailMatchesKeywordsPredicate otherPredicate = (EmailMatchesKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -3,16 +3,25 @@ package seedu.address.model.person.filter;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Collection of filters that is applied to the displayed NetConnect person list.
+ * <p>
+ * The predicates are kept in the order the user added them, which is the order they are shown in. They are
+ * evaluated in order of increasing {@link NetConnectPredicate#evaluationCost()} instead, so that a person
+ * failing a cheap predicate is rejected before the expensive ones are tested.
  */
 public class Filter extends NetConnectPredicate<Person> {
 
@@ -22,6 +31,7 @@ public class Filter extends NetConnectPredicate<Person> {
     private static final Filter EMPTY_FILTER = new Filter(List.of());
 
     private final List<NetConnectPredicate<Person>> filters;
+    private final List<NetConnectPredicate<Person>> evaluationOrder;
 
     /**
      * Returns a {@code Filter} object with the given list of predicates.
@@ -29,6 +39,13 @@ public class Filter extends NetConnectPredicate<Person> {
     private Filter(List<NetConnectPredicate<Person>> predicates) {
         requireNonNull(predicates);
         filters = Collections.unmodifiableList(predicates);
+        evaluationOrder = byEvaluationCost(predicates);
+    }
+
+    private static List<NetConnectPredicate<Person>> byEvaluationCost(List<NetConnectPredicate<Person>> predicates) {
+        List<NetConnectPredicate<Person>> ordered = new ArrayList<>(predicates);
+        ordered.sort(Comparator.comparingInt(NetConnectPredicate::evaluationCost));
+        return ordered;
     }
 
     /**
@@ -80,9 +97,74 @@ public class Filter extends NetConnectPredicate<Person> {
                 .collect(Collectors.joining("\n"));
     }
 
+    /**
+     * Returns the intersection of the ids matched by each predicate, if every predicate can be answered from
+     * {@code index}. An empty filter is never answered from the index, as it matches every person.
+     */
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        if (filters.isEmpty()) {
+            return Optional.empty();
+        }
+        BitSet ids = null;
+        for (NetConnectPredicate<Person> predicate : filters) {
+            Optional<BitSet> matched = predicate.matchingIds(index);
+            if (matched.isEmpty()) {
+                return Optional.empty();
+            }
+            if (ids == null) {
+                ids = matched.get();
+            } else {
+                ids.and(matched.get());
+            }
+        }
+        return Optional.of(ids);
+    }
+
+    /**
+     * Returns a predicate equivalent to this filter, planned against the current contents of {@code index}.
+     * <p>
+     * The predicates that can be answered from the index are looked up there and intersected, smallest result
+     * first, into a set of candidate ids. Only the candidates are then tested against the remaining predicates,
+     * cheapest first. If no predicate can be answered from the index, this filter itself is returned.
+     */
+    public Predicate<Person> plan(PersonIndex index) {
+        requireNonNull(index);
+        List<BitSet> indexedIds = new ArrayList<>();
+        List<NetConnectPredicate<Person>> residual = new ArrayList<>();
+        for (NetConnectPredicate<Person> predicate : evaluationOrder) {
+            Optional<BitSet> matched = predicate.matchingIds(index);
+            if (matched.isPresent()) {
+                indexedIds.add(matched.get());
+            } else {
+                residual.add(predicate);
+            }
+        }
+        if (indexedIds.isEmpty()) {
+            return this;
+        }
+
+        indexedIds.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet candidates = indexedIds.get(0);
+        for (int i = 1; i < indexedIds.size() && !candidates.isEmpty(); i++) {
+            candidates.and(indexedIds.get(i));
+        }
+        return new IndexedFilterResult(this, candidates, residual, index);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return evaluationOrder.stream().mapToInt(NetConnectPredicate::evaluationCost).sum();
+    }
+
     @Override
     public boolean test(Person p) {
-        return filters.stream().allMatch(predicate -> predicate.test(p));
+        for (NetConnectPredicate<Person> predicate : evaluationOrder) {
+            if (!predicate.test(p)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,77 @@
+package seedu.address.model.person.filter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remembers the ids of the persons matched by recently applied filters, so that switching back to a filter does
+ * not test the persons again.
+ * <p>
+ * Results are recorded against a version of the {@code PersonIndex}. Every change to the persons changes the
+ * version, which makes all recorded results out of date, so they are dropped at the next lookup. Once more than
+ * {@link #DEFAULT_CAPACITY} results are recorded, the least recently used one is dropped. Recorded id sets are
+ * shared with callers, who must not modify them.
+ */
+public class FilterResultCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<Filter, BitSet> results;
+    private long version;
+
+    public FilterResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache that holds the results of at most {@code capacity} filters.
+     */
+    public FilterResultCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive: " + capacity);
+        }
+        this.results = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Filter, BitSet> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the ids of the persons matched by {@code filter}, if they were recorded at {@code version}.
+     */
+    public Optional<BitSet> get(Filter filter, long version) {
+        requireNonNull(filter);
+        dropIfOutdated(version);
+        return Optional.ofNullable(results.get(filter));
+    }
+
+    /**
+     * Records {@code matchingIds} as the ids of the persons matched by {@code filter} at {@code version}.
+     */
+    public void put(Filter filter, long version, BitSet matchingIds) {
+        requireAllNonNull(filter, matchingIds);
+        dropIfOutdated(version);
+        results.put(filter, matchingIds);
+    }
+
+    /**
+     * Returns the number of results recorded.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    private void dropIfOutdated(long currentVersion) {
+        if (currentVersion != version) {
+            results.clear();
+            version = currentVersion;
+        }
+    }
+}
@@ -1,39 +1,68 @@
 package seedu.address.model.person.filter;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code ID} matches any of the IDs given.
  */
 public class IdContainsDigitsPredicate extends NetConnectPredicate<Person> {
-    private final List<Integer> ids;
+    private final int[] ids;
+    private final int[] sortedIds;
 
     public IdContainsDigitsPredicate(List<Integer> ids) {
-        this.ids = ids;
+        this(ids.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Constructs an {@code IdContainsDigitsPredicate} from the given id values.
+     */
+    public IdContainsDigitsPredicate(int[] ids) {
+        this.ids = ids.clone();
+        this.sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
     }
 
     public int getFirstId() {
-        return ids.get(0);
+        return ids[0];
     }
 
     public int getSecondId() {
-        return ids.get(1);
+        return ids[1];
     }
 
     @Override
     public String formatFilter() {
-        return ids.stream()
-                .map(id -> "i/" + id).collect(Collectors.joining(" "));
+        return Arrays.stream(ids)
+                .mapToObj(id -> "i/" + id).collect(Collectors.joining(" "));
     }
 
     @Override
     public boolean test(Person person) {
-        return ids.stream()
-                .anyMatch(id -> person.getId().value == id);
+        return Arrays.binarySearch(sortedIds, person.getId().value) >= 0;
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        BitSet matched = new BitSet();
+        for (int id : sortedIds) {
+            if (index.contains(id)) {
+                matched.set(id);
+            }
+        }
+        return Optional.of(matched);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_ID_LOOKUP;
     }
 
     @Override
@@ -48,13 +77,18 @@ public class IdContainsDigitsPredicate extends NetConnectPredicate<Person> {
         }
 
         IdContainsDigitsPredicate otherIdContainsDigitsPredicate = (IdContainsDigitsPredicate) other;
-        return ids.equals(otherIdContainsDigitsPredicate.ids);
+        return Arrays.equals(ids, otherIdContainsDigitsPredicate.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("ids", ids)
+                .add("ids", Arrays.toString(ids))
                 .toString();
     }
 
@@ -0,0 +1,97 @@
+package seedu.address.model.person.filter;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+
+/**
+ * The result of a {@code Filter} computed from a {@code PersonIndex}, used as the predicate of the displayed
+ * person list.
+ * <p>
+ * While the index is unchanged, a person matches if its id is among the candidates computed from the index and
+ * it passes the remaining predicates that could not be answered from the index. Once the persons have changed,
+ * the candidates may be out of date, so persons are tested against the filter itself instead.
+ */
+public class IndexedFilterResult implements Predicate<Person> {
+
+    private final Filter filter;
+    private final BitSet matchingIds;
+    private final List<NetConnectPredicate<Person>> residual;
+    private final PersonIndex index;
+    private final long version;
+
+    /**
+     * Creates a result of {@code filter}, matching the persons whose ids are in {@code matchingIds}, as
+     * computed from the current version of {@code index}.
+     */
+    public IndexedFilterResult(Filter filter, BitSet matchingIds, PersonIndex index) {
+        this(filter, matchingIds, List.of(), index);
+    }
+
+    /**
+     * Creates a result of {@code filter}, matching the persons whose ids are in {@code candidateIds}, as
+     * computed from the current version of {@code index}, and that pass all of the {@code residual} predicates,
+     * which are tested in the given order.
+     */
+    public IndexedFilterResult(Filter filter, BitSet candidateIds, List<NetConnectPredicate<Person>> residual,
+            PersonIndex index) {
+        requireAllNonNull(filter, candidateIds, residual, index);
+        this.filter = filter;
+        this.matchingIds = candidateIds;
+        this.residual = List.copyOf(residual);
+        this.index = index;
+        this.version = index.getVersion();
+    }
+
+    public Filter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Returns the ids of the candidates computed from the index, which must not be modified.
+     * Without residual predicates, these are exactly the ids of the persons matching the filter.
+     */
+    public BitSet getCandidateIds() {
+        return matchingIds;
+    }
+
+    /**
+     * Returns true if some predicates could not be answered from the index and are tested on each candidate.
+     */
+    public boolean hasResidual() {
+        return !residual.isEmpty();
+    }
+
+    /**
+     * Returns true if the result still reflects the persons in the index.
+     */
+    public boolean isCurrent() {
+        return index.getVersion() == version;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (isCurrent()) {
+            return matchingIds.get(person.getId().value) && passesResidual(person);
+        }
+        return filter.test(person);
+    }
+
+    /**
+     * Returns true if {@code person} passes all of the remaining predicates that could not be answered from the
+     * index. Whether {@code person} is a candidate is not checked.
+     */
+    public boolean passesResidual(Person person) {
+        for (NetConnectPredicate<Person> predicate : residual) {
+            if (!predicate.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,20 +1,31 @@
 package seedu.address.model.person.filter;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.NameIndex;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate extends NetConnectPredicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Constructs a {@code NameContainsKeywordsPredicate} with a list of keywords.
+     *
+     * @param keywords The list of keywords to match against the person's name.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
@@ -25,8 +36,22 @@ public class NameContainsKeywordsPredicate extends NetConnectPredicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.hasPartialMatchIgnoreCase(keyword, person.getName().fullName));
+        return matcher.occursIn(person.getName().fullName);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_TEXT;
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        NameIndex nameIndex = index.getNameIndex();
+        BitSet ids = new BitSet();
+        for (String keyword : keywords) {
+            ids.or(nameIndex.idsWithNameContaining(keyword));
+        }
+        return Optional.of(ids);
     }
 
     @Override
@@ -44,6 +69,11 @@ public class NameContainsKeywordsPredicate extends NetConnectPredicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
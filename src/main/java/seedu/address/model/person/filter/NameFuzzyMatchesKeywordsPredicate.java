@@ -0,0 +1,121 @@
+package seedu.address.model.person.filter;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.NameIndex;
+import seedu.address.model.person.index.PersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Name}, or a word of it, is within a few typos of any of the keywords
+ * given, ignoring case. A typo is an inserted, deleted or substituted character, or two swapped adjacent
+ * characters. Answered from the person index, it matches the same persons as when tested on each of them.
+ * <p>
+ * Every name within the allowed typos matches. To show the closest names first, the matches can be ordered with
+ * {@link #relevanceComparator()}, so that the first k of them are the k closest.
+ */
+public class NameFuzzyMatchesKeywordsPredicate extends NetConnectPredicate<Person> {
+
+    public static final String FUZZY_MARKER = "~";
+
+    private final List<String> keywords;
+
+    /**
+     * Constructs a {@code NameFuzzyMatchesKeywordsPredicate} with a list of keywords.
+     *
+     * @param keywords The list of keywords to match against the person's name, without {@link #FUZZY_MARKER}.
+     */
+    public NameFuzzyMatchesKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the number of typos allowed for {@code keyword}, which grows with its length.
+     */
+    public static int maxTyposFor(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public String formatFilter() {
+        return keywords.stream()
+                .map(keyword -> "n/" + keyword + FUZZY_MARKER).collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String name = person.getName().fullName;
+        return keywords.stream().anyMatch(keyword ->
+                NameIndex.nameDistance(name, keyword, maxTyposFor(keyword)) <= maxTyposFor(keyword));
+    }
+
+    /**
+     * Returns the fewest typos between the name of {@code person}, or a word of it, and any of the keywords.
+     * Distances beyond the typos allowed for a keyword are not told apart.
+     */
+    public int distanceTo(Person person) {
+        String name = person.getName().fullName;
+        int distance = Integer.MAX_VALUE;
+        for (String keyword : keywords) {
+            distance = Math.min(distance, NameIndex.nameDistance(name, keyword, maxTyposFor(keyword)));
+        }
+        return distance;
+    }
+
+    /**
+     * Returns a comparator that orders persons by {@link #distanceTo}, closest first.
+     * The order of a person depends only on its own name, so it stays the same while the person is in a sorted
+     * list.
+     */
+    public Comparator<Person> relevanceComparator() {
+        return Comparator.comparingInt(this::distanceTo);
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        NameIndex nameIndex = index.getNameIndex();
+        BitSet ids = new BitSet();
+        for (String keyword : keywords) {
+            ids.or(nameIndex.idsWithNameWithin(keyword, maxTyposFor(keyword)));
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_LONG_TEXT;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameFuzzyMatchesKeywordsPredicate)) {
+            return false;
+        }
+
+        NameFuzzyMatchesKeywordsPredicate otherPredicate = (NameFuzzyMatchesKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
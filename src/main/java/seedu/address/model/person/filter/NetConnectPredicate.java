@@ -1,22 +1,56 @@
 package seedu.address.model.person.filter;
 
+import java.util.BitSet;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Represents a predicate used in NetConnect. Supports {@link #formatFilter()}
  * to format the text to output to users.
+ * <p>
+ * Predicates that cannot be answered from the person index are tested on long lists from several threads at
+ * once, so {@link #test} must be safe to call concurrently, for example by not modifying any shared state.
  */
 public abstract class NetConnectPredicate<T> implements Predicate<T> {
 
+    /** Cost of a test that looks up the id of a person in a small set. */
+    public static final int COST_ID_LOOKUP = 1;
+    /** Cost of a test that compares a short field, such as a role or a phone number. */
+    public static final int COST_SHORT_FIELD = 2;
+    /** Cost of a test that searches text, such as a name or tags. */
+    public static final int COST_TEXT = 4;
+    /** Cost of a test that searches long free text, such as a remark. */
+    public static final int COST_LONG_TEXT = 8;
+    /** Cost of a test whose work is unknown. */
+    public static final int COST_UNKNOWN = 16;
+
     /**
      * Returns the predicate in a user readable format.
      */
     public abstract String formatFilter();
 
+    /**
+     * Returns the id values of exactly the persons in {@code index} that satisfy this predicate, or an empty
+     * {@code Optional} if the predicate cannot be answered from the index and has to be tested on each person.
+     */
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the relative cost of testing a single person against this predicate, as one of the
+     * {@code COST_} constants. Cheaper predicates are tested first when several are combined.
+     */
+    public int evaluationCost() {
+        return COST_UNKNOWN;
+    }
+
     /**
      * Boxes a predicate into a NetConnectPredicate, with a null formatFilter.
+     * {@code predicate} may be tested from several threads at once, so it must be thread-safe.
      */
     public static NetConnectPredicate<Person> box(Predicate<Person> predicate) {
         return new NetConnectPredicate<Person>() {
@@ -0,0 +1,84 @@
+package seedu.address.model.person.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+
+/**
+ * Tests that a {@code Person} does not satisfy the given predicate.
+ */
+public class NotPredicate extends NetConnectPredicate<Person> {
+
+    private final NetConnectPredicate<Person> operand;
+
+    /**
+     * Constructs a {@code NotPredicate} that negates {@code operand}.
+     */
+    public NotPredicate(NetConnectPredicate<Person> operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public NetConnectPredicate<Person> getOperand() {
+        return operand;
+    }
+
+    @Override
+    public String formatFilter() {
+        boolean isCompound = operand instanceof AndPredicate || operand instanceof OrPredicate;
+        return "NOT " + (isCompound ? "(" + operand.formatFilter() + ")" : operand.formatFilter());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    /**
+     * Returns the ids of the persons in {@code index} that are not matched by the operand, if the operand can be
+     * answered from {@code index}.
+     */
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        return operand.matchingIds(index).map(matched -> {
+            BitSet ids = index.allIds();
+            ids.andNot(matched);
+            return ids;
+        });
+    }
+
+    @Override
+    public int evaluationCost() {
+        return operand.evaluationCost();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherPredicate = (NotPredicate) other;
+        return operand.equals(otherPredicate.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
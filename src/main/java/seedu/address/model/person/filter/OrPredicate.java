@@ -0,0 +1,103 @@
+package seedu.address.model.person.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+
+/**
+ * Tests that a {@code Person} satisfies any of the given predicates.
+ * The predicates are tested cheapest first, and answered from the person index by uniting their matches.
+ */
+public class OrPredicate extends NetConnectPredicate<Person> {
+
+    private final List<NetConnectPredicate<Person>> operands;
+    private final List<NetConnectPredicate<Person>> evaluationOrder;
+
+    /**
+     * Constructs an {@code OrPredicate} of at least one predicate.
+     */
+    public OrPredicate(List<NetConnectPredicate<Person>> operands) {
+        requireNonNull(operands);
+        if (operands.isEmpty()) {
+            throw new IllegalArgumentException("OrPredicate needs at least one operand");
+        }
+        this.operands = List.copyOf(operands);
+        List<NetConnectPredicate<Person>> ordered = new ArrayList<>(operands);
+        ordered.sort(Comparator.comparingInt(NetConnectPredicate::evaluationCost));
+        this.evaluationOrder = ordered;
+    }
+
+    public List<NetConnectPredicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public String formatFilter() {
+        return operands.stream().map(NetConnectPredicate::formatFilter).collect(Collectors.joining(" OR "));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (NetConnectPredicate<Person> operand : evaluationOrder) {
+            if (operand.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the union of the ids matched by each operand, if every operand can be answered from {@code index}.
+     */
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        BitSet ids = new BitSet();
+        for (NetConnectPredicate<Person> operand : operands) {
+            Optional<BitSet> matched = operand.matchingIds(index);
+            if (matched.isEmpty()) {
+                return Optional.empty();
+            }
+            ids.or(matched.get());
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return operands.stream().mapToInt(NetConnectPredicate::evaluationCost).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrPredicate)) {
+            return false;
+        }
+
+        OrPredicate otherPredicate = (OrPredicate) other;
+        return operands.equals(otherPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.person.filter;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests a list of persons against a predicate in parallel, collecting the ids of the persons that pass.
+ * <p>
+ * The list is split into ranges that are tested on the common {@link ForkJoinPool}, each into a
+ * {@code BitSet} of its own, and the results are merged as the ranges are joined. Lists too short to benefit
+ * are tested on the calling thread. The predicate must be safe to test from several threads at once, which
+ * holds for the immutable predicates in this package.
+ * <p>
+ * {@link #evaluate} returns only once every range is tested, and the calling thread waits for the pool until
+ * then. Called from the JavaFX application thread, the work is spread over several cores, but the UI still waits
+ * for it: commands read the filtered list as soon as they return, so the evaluation is not moved off that
+ * thread.
+ */
+public class ParallelFilterEvaluator {
+
+    /** Number of persons below which a range is tested on a single thread. */
+    public static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    private final ForkJoinPool pool;
+
+    public ParallelFilterEvaluator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an evaluator that tests long lists on {@code pool}.
+     */
+    public ParallelFilterEvaluator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the ids of the persons in {@code persons} that pass {@code predicate}.
+     * {@code persons} must support fast random access and must not change until this method returns.
+     */
+    public BitSet evaluate(List<Person> persons, Predicate<? super Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        EvaluationTask task = new EvaluationTask(persons, predicate, 0, persons.size());
+        if (persons.size() < SEQUENTIAL_THRESHOLD) {
+            return task.compute();
+        }
+        return pool.invoke(task);
+    }
+
+    /**
+     * Returns the ids of the candidates of {@code planned} that pass its residual predicates.
+     * Only the candidates are looked up, with {@code personWithId}, and tested, so a filter narrowed down by the
+     * index costs as many tests as it has candidates rather than as there are persons.
+     */
+    public BitSet evaluateCandidates(IndexedFilterResult planned, IntFunction<Person> personWithId) {
+        requireAllNonNull(planned, personWithId);
+        BitSet candidateIds = planned.getCandidateIds();
+        List<Person> candidates = new ArrayList<>(candidateIds.cardinality());
+        for (int id = candidateIds.nextSetBit(0); id >= 0; id = candidateIds.nextSetBit(id + 1)) {
+            candidates.add(personWithId.apply(id));
+        }
+        return evaluate(candidates, planned::passesResidual);
+    }
+
+    /**
+     * Tests the persons in a range of the list, splitting the range in halves while it is long.
+     */
+    private static class EvaluationTask extends RecursiveTask<BitSet> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Person> persons;
+        private final Predicate<? super Person> predicate;
+        private final int from;
+        private final int to;
+
+        EvaluationTask(List<Person> persons, Predicate<? super Person> predicate, int from, int to) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BitSet compute() {
+            if (to - from < SEQUENTIAL_THRESHOLD) {
+                BitSet ids = new BitSet();
+                for (int i = from; i < to; i++) {
+                    Person person = persons.get(i);
+                    if (predicate.test(person)) {
+                        ids.set(person.getId().value);
+                    }
+                }
+                return ids;
+            }
+            int middle = (from + to) >>> 1;
+            EvaluationTask second = new EvaluationTask(persons, predicate, middle, to);
+            second.fork();
+            BitSet ids = new EvaluationTask(persons, predicate, from, middle).compute();
+            ids.or(second.join());
+            return ids;
+        }
+    }
+}
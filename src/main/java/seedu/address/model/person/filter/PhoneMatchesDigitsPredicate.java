@@ -1,19 +1,63 @@
 package seedu.address.model.person.filter;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.index.PhoneIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
+ * A keyword is either a full phone number, which must match exactly, or the first digits of a phone number
+ * followed by {@link #PREFIX_WILDCARD}, which matches every phone number starting with those digits.
  */
 public class PhoneMatchesDigitsPredicate extends NetConnectPredicate<Person> {
+
+    public static final String PREFIX_WILDCARD = "*";
+
+    public static final String MESSAGE_CONSTRAINTS = "Phone numbers to find should be 8 digits long, "
+            + "or the first 1 to 8 digits of a phone number followed by " + PREFIX_WILDCARD;
+
+    private static final String VALIDATION_REGEX = "\\d{8}|\\d{1,8}\\*";
+
     private final List<String> phones;
+    /** Keywords that are full phone numbers. */
+    private final List<String> exactPhones;
+    /** Digits of the keywords that are phone number prefixes, without the wildcard. */
+    private final List<String> phonePrefixes;
+    private final KeywordMatcher exactMatcher;
+    private final KeywordMatcher prefixMatcher;
 
+    /**
+     * Constructs a {@code PhoneMatchesDigitsPredicate} with a list of phone numbers and phone number prefixes.
+     *
+     * @param phones The list of keywords to match against the person's phone.
+     */
     public PhoneMatchesDigitsPredicate(List<String> phones) {
         this.phones = phones;
+        this.exactPhones = phones.stream()
+                .filter(phone -> !phone.endsWith(PREFIX_WILDCARD))
+                .collect(Collectors.toList());
+        this.phonePrefixes = phones.stream()
+                .filter(phone -> phone.endsWith(PREFIX_WILDCARD))
+                .map(phone -> phone.substring(0, phone.length() - PREFIX_WILDCARD.length()))
+                .collect(Collectors.toList());
+        this.exactMatcher = new KeywordMatcher(exactPhones);
+        this.prefixMatcher = new KeywordMatcher(phonePrefixes);
+    }
+
+    /**
+     * Returns true if {@code keyword} is a full phone number, or the first 1 to 8 digits of a phone number
+     * followed by {@link #PREFIX_WILDCARD}.
+     */
+    public static boolean isValidPhoneKeyword(String keyword) {
+        return keyword.matches(VALIDATION_REGEX);
     }
 
     @Override
@@ -23,7 +67,31 @@ public class PhoneMatchesDigitsPredicate extends NetConnectPredicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return phones.stream().anyMatch(person.getPhone().value::equals);
+        String phone = person.getPhone().value;
+        return exactMatcher.matchesWhole(phone) || prefixMatcher.isPrefixedByAny(phone);
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        PhoneIndex phoneIndex = index.getPhoneIndex();
+        BitSet ids = new BitSet();
+        // a full phone number is the longest prefix of itself
+        for (String phone : exactPhones) {
+            if (Phone.isValidPhone(phone)) {
+                phoneIndex.addIdsWithPhonePrefix(phone, ids);
+            }
+        }
+        for (String prefix : phonePrefixes) {
+            if (isValidPhoneKeyword(prefix + PREFIX_WILDCARD)) {
+                phoneIndex.addIdsWithPhonePrefix(prefix, ids);
+            }
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_SHORT_FIELD;
     }
 
     @Override
@@ -41,6 +109,11 @@ public class PhoneMatchesDigitsPredicate extends NetConnectPredicate<Person> {
         return phones.equals(otherNameContainsKeywordsPredicate.phones);
     }
 
+    @Override
+    public int hashCode() {
+        return phones.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("phones", phones).toString();
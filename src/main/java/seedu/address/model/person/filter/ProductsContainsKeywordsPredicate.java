@@ -0,0 +1,97 @@
+package seedu.address.model.person.filter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCTS;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Client;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Products;
+import seedu.address.model.person.Supplier;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.index.TermIndex;
+
+/**
+ * Represents a predicate that checks if a client's or supplier's products contain any of the specified keywords.
+ * A product matches a keyword when they are equal, ignoring case. Employees have no products.
+ */
+public class ProductsContainsKeywordsPredicate extends NetConnectPredicate<Person> {
+    private final List<String> keywords;
+    private final KeywordMatcher matcher;
+
+    /**
+     * Constructs a {@code ProductsContainsKeywordsPredicate} with the specified keywords.
+     *
+     * @param keywords The keywords to match against the person's products.
+     */
+    public ProductsContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+
+        this.keywords = List.copyOf(keywords);
+        this.matcher = new KeywordMatcher(this.keywords);
+    }
+
+    @Override
+    public String formatFilter() {
+        return keywords.stream().map(keyword -> PREFIX_PRODUCTS + keyword).collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Products products;
+        if (person instanceof Client) {
+            products = ((Client) person).getProducts();
+        } else if (person instanceof Supplier) {
+            products = ((Supplier) person).getProducts();
+        } else {
+            return false;
+        }
+        return products.getProducts().stream().anyMatch(matcher::matchesWhole);
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        TermIndex productIndex = index.getProductIndex();
+        BitSet ids = new BitSet();
+        for (String keyword : keywords) {
+            productIndex.addIdsWithTerm(keyword, ids);
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_TEXT;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ProductsContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        ProductsContainsKeywordsPredicate otherPredicate = (ProductsContainsKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
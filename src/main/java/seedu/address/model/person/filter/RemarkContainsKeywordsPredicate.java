@@ -2,14 +2,18 @@ package seedu.address.model.person.filter;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.index.RemarkIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Remark} contains any of the keywords given.
@@ -17,6 +21,13 @@ import seedu.address.model.person.Person;
 public class RemarkContainsKeywordsPredicate extends NetConnectPredicate<Person> {
     private final boolean hasEmptyKeyword;
     private final List<String> keywords;
+    private final List<List<String>> wordsOfKeywords;
+    /** Matches every word of every keyword. */
+    private final KeywordMatcher wordMatcher;
+    /** Words of each keyword, as positions in the keywords of {@code wordMatcher}. */
+    private final BitSet[] keywordWords;
+    /** Words of each keyword as masks, if {@code wordMatcher} has few enough keywords to report them as masks. */
+    private final long[] keywordWordMasks;
 
     /**
      * Constructs a {@code RemarkContainsKeywordsPredicate} with a list of keywords.
@@ -26,6 +37,24 @@ public class RemarkContainsKeywordsPredicate extends NetConnectPredicate<Person>
     public RemarkContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords.stream().filter(Predicate.not(String::isBlank)).collect(Collectors.toList());
         this.hasEmptyKeyword = keywords.stream().anyMatch(String::isBlank);
+
+        this.wordsOfKeywords = this.keywords.stream()
+                .map(keyword -> Stream.of(keyword.split("\\s+"))
+                        .filter(Predicate.not(String::isEmpty))
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+        wordMatcher = new KeywordMatcher(wordsOfKeywords.stream().flatMap(List::stream).collect(Collectors.toList()));
+        List<String> matcherWords = wordMatcher.getKeywords();
+        keywordWords = new BitSet[wordsOfKeywords.size()];
+        for (int i = 0; i < keywordWords.length; i++) {
+            keywordWords[i] = new BitSet();
+            for (String word : wordsOfKeywords.get(i)) {
+                keywordWords[i].set(matcherWords.indexOf(KeywordMatcher.fold(word)));
+            }
+        }
+        keywordWordMasks = matcherWords.size() > KeywordMatcher.MAX_WORD_MASK_KEYWORDS
+                ? null
+                : Stream.of(keywordWords).mapToLong(words -> words.isEmpty() ? 0 : words.toLongArray()[0]).toArray();
     }
 
     @Override
@@ -36,10 +65,50 @@ public class RemarkContainsKeywordsPredicate extends NetConnectPredicate<Person>
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> Arrays.stream(keyword.split("\\s+"))
-                        .allMatch(word -> StringUtil.containsWordIgnoreCase(person.getRemark().value, word)))
-                || (hasEmptyKeyword && person.getRemark().value.isBlank());
+        String remark = person.getRemark().value;
+        return hasAllWordsOfAnyKeyword(remark) || (hasEmptyKeyword && remark.isBlank());
+    }
+
+    private boolean hasAllWordsOfAnyKeyword(String remark) {
+        if (keywordWords.length == 0) {
+            return false;
+        }
+        if (keywordWordMasks != null) {
+            long found = wordMatcher.wholeWordMatches(remark);
+            for (long words : keywordWordMasks) {
+                if ((found & words) == words) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        BitSet found = wordMatcher.wholeWordMatchSet(remark);
+        for (BitSet words : keywordWords) {
+            BitSet missing = (BitSet) words.clone();
+            missing.andNot(found);
+            if (missing.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        RemarkIndex remarkIndex = index.getRemarkIndex();
+        BitSet ids = new BitSet();
+        for (List<String> words : wordsOfKeywords) {
+            ids.or(remarkIndex.idsWithAllWords(words));
+        }
+        if (hasEmptyKeyword) {
+            remarkIndex.addIdsWithBlankRemark(ids);
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_LONG_TEXT;
     }
 
     @Override
@@ -58,6 +127,11 @@ public class RemarkContainsKeywordsPredicate extends NetConnectPredicate<Person>
                 && (hasEmptyKeyword == otherRemarkContainsKeywordsPredicate.hasEmptyKeyword);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("remarks", keywords).toString();
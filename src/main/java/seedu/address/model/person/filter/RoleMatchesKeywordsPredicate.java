@@ -2,12 +2,17 @@ package seedu.address.model.person.filter;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.index.TermIndex;
 
 /**
  * Represents a predicate that checks if a person's role matches any of the specified keywords.
@@ -15,6 +20,7 @@ import seedu.address.model.person.Person;
  */
 public class RoleMatchesKeywordsPredicate extends NetConnectPredicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     /**
      * Constructs a {@code RoleContainsKeywordsPredicate} with a list of keywords.
@@ -23,6 +29,7 @@ public class RoleMatchesKeywordsPredicate extends NetConnectPredicate<Person> {
      */
     public RoleMatchesKeywordsPredicate(List<String> keywords) {
         this.keywords = Collections.unmodifiableList(keywords);
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
@@ -32,7 +39,22 @@ public class RoleMatchesKeywordsPredicate extends NetConnectPredicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream().anyMatch(person.getRole()::equalsIgnoreCase);
+        return matcher.matchesWhole(person.getRole());
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        TermIndex roleIndex = index.getRoleIndex();
+        BitSet ids = new BitSet();
+        for (String keyword : matcher.getKeywords()) {
+            roleIndex.addIdsWithTerm(keyword, ids);
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_SHORT_FIELD;
     }
 
     /**
@@ -53,6 +75,11 @@ public class RoleMatchesKeywordsPredicate extends NetConnectPredicate<Person> {
         return keywords.equals(otherPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     /**
      * Returns a string representation of the predicate.
      *
@@ -0,0 +1,90 @@
+package seedu.address.model.person.filter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILLS;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.index.TermIndex;
+
+/**
+ * Represents a predicate that checks if an employee's skills contain any of the specified keywords.
+ * A skill matches a keyword when they are equal, ignoring case. Persons who are not employees have no skills.
+ */
+public class SkillsContainsKeywordsPredicate extends NetConnectPredicate<Person> {
+    private final List<String> keywords;
+    private final KeywordMatcher matcher;
+
+    /**
+     * Constructs a {@code SkillsContainsKeywordsPredicate} with the specified keywords.
+     *
+     * @param keywords The keywords to match against the employee's skills.
+     */
+    public SkillsContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+
+        this.keywords = List.copyOf(keywords);
+        this.matcher = new KeywordMatcher(this.keywords);
+    }
+
+    @Override
+    public String formatFilter() {
+        return keywords.stream().map(keyword -> PREFIX_SKILLS + keyword).collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (!(person instanceof Employee)) {
+            return false;
+        }
+        return ((Employee) person).getSkills().getSkills().stream().anyMatch(matcher::matchesWhole);
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        TermIndex skillIndex = index.getSkillIndex();
+        BitSet ids = new BitSet();
+        for (String keyword : keywords) {
+            skillIndex.addIdsWithTerm(keyword, ids);
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_TEXT;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SkillsContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        SkillsContainsKeywordsPredicate otherPredicate = (SkillsContainsKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
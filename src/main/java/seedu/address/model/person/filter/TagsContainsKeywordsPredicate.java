@@ -2,11 +2,17 @@ package seedu.address.model.person.filter;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.index.TermIndex;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents a predicate that checks if a person's tags contains a specified keyword.
@@ -14,6 +20,7 @@ import seedu.address.model.person.Person;
  */
 public class TagsContainsKeywordsPredicate extends NetConnectPredicate<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     /**
      * Constructs a {@code TagsContainsKeywordsPredicate} with the specified keyword.
@@ -24,6 +31,7 @@ public class TagsContainsKeywordsPredicate extends NetConnectPredicate<Person> {
         requireNonNull(keywords);
 
         this.keywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
+        this.matcher = new KeywordMatcher(this.keywords);
     }
 
     @Override
@@ -39,9 +47,27 @@ public class TagsContainsKeywordsPredicate extends NetConnectPredicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        return person.getTags().stream()
-                .map(t -> t.tagName.toLowerCase())
-                .anyMatch(keywords::contains);
+        for (Tag tag : person.getTags()) {
+            if (matcher.matchesWhole(tag.tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int evaluationCost() {
+        return COST_TEXT;
+    }
+
+    @Override
+    public Optional<BitSet> matchingIds(PersonIndex index) {
+        TermIndex tagIndex = index.getTagIndex();
+        BitSet ids = new BitSet();
+        for (String keyword : keywords) {
+            tagIndex.addIdsWithTerm(keyword, ids);
+        }
+        return Optional.of(ids);
     }
 
     /**
@@ -65,6 +91,11 @@ public class TagsContainsKeywordsPredicate extends NetConnectPredicate<Person> {
         return keywords.equals(otherTagsContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,110 @@
+package seedu.address.model.person.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.model.person.Email;
+
+/**
+ * Answers queries over person emails by whole address, local part or domain, ignoring case.
+ * <p>
+ * The domain of each email is indexed together with each of its parent domains, so that the persons with
+ * emails at a domain or any of its subdomains are found with a single lookup.
+ */
+public class EmailIndex {
+
+    private static final char AT = '@';
+    private static final char LABEL_SEPARATOR = '.';
+
+    private final TermIndex addressIndex = new TermIndex();
+    private final TermIndex localPartIndex = new TermIndex();
+    private final TermIndex domainIndex = new TermIndex();
+
+    /**
+     * Indexes the email of the person with {@code id}, replacing any email already indexed for {@code id}.
+     */
+    public void add(int id, Email email) {
+        String address = email.value;
+        addressIndex.add(id, List.of(address));
+        localPartIndex.add(id, List.of(localPartOf(address)));
+        domainIndex.add(id, domainAndParentsOf(domainOf(address)));
+    }
+
+    /**
+     * Removes the email of the person with {@code id} from the index.
+     */
+    public void remove(int id) {
+        addressIndex.remove(id);
+        localPartIndex.remove(id);
+        domainIndex.remove(id);
+    }
+
+    /**
+     * Removes all emails from the index.
+     */
+    public void clear() {
+        addressIndex.clear();
+        localPartIndex.clear();
+        domainIndex.clear();
+    }
+
+    /**
+     * Sets the bits of the ids of the persons whose email is {@code address} in {@code ids}.
+     */
+    public void addIdsWithAddress(String address, BitSet ids) {
+        addressIndex.addIdsWithTerm(address, ids);
+    }
+
+    /**
+     * Sets the bits of the ids of the persons whose email has {@code localPart} before the {@code @} in
+     * {@code ids}.
+     */
+    public void addIdsWithLocalPart(String localPart, BitSet ids) {
+        localPartIndex.addIdsWithTerm(localPart, ids);
+    }
+
+    /**
+     * Sets the bits of the ids of the persons whose email is at {@code domain} or one of its subdomains in
+     * {@code ids}.
+     */
+    public void addIdsWithDomain(String domain, BitSet ids) {
+        domainIndex.addIdsWithTerm(domain, ids);
+    }
+
+    /**
+     * Returns the number of persons whose email is at {@code domain} or one of its subdomains.
+     */
+    public int countWithDomain(String domain) {
+        return domainIndex.countOf(domain);
+    }
+
+    /**
+     * Returns the part of {@code address} before the {@code @}.
+     */
+    public static String localPartOf(String address) {
+        return address.substring(0, address.lastIndexOf(AT));
+    }
+
+    /**
+     * Returns the part of {@code address} after the {@code @}.
+     */
+    public static String domainOf(String address) {
+        return address.substring(address.lastIndexOf(AT) + 1);
+    }
+
+    /**
+     * Returns {@code domain} followed by each of its parent domains, e.g. {@code mail.example.com},
+     * {@code example.com} and {@code com}.
+     */
+    static List<String> domainAndParentsOf(String domain) {
+        List<String> domains = new ArrayList<>();
+        int start = 0;
+        while (start >= 0) {
+            domains.add(domain.substring(start));
+            int separator = domain.indexOf(LABEL_SEPARATOR, start);
+            start = separator < 0 ? -1 : separator + 1;
+        }
+        return domains;
+    }
+}
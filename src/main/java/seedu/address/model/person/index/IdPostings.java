@@ -0,0 +1,106 @@
+package seedu.address.model.person.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A sorted set of person id values, stored in a primitive array.
+ * New persons receive increasing ids, so additions usually append in constant time.
+ */
+public class IdPostings {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds {@code id} to the set.
+     *
+     * @return True if {@code id} was not already in the set.
+     */
+    public boolean add(int id) {
+        if (size > 0 && ids[size - 1] < id) {
+            insertAt(size, id);
+            return true;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return false;
+        }
+        insertAt(-position - 1, id);
+        return true;
+    }
+
+    /**
+     * Removes {@code id} from the set.
+     *
+     * @return True if {@code id} was in the set.
+     */
+    public boolean remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all ids from the set.
+     */
+    public void clear() {
+        ids = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the id at {@code index}, in increasing order of ids.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return ids[index];
+    }
+
+    /**
+     * Sets the bits of all ids in this set in {@code bits}.
+     */
+    public void addTo(BitSet bits) {
+        for (int i = 0; i < size; i++) {
+            bits.set(ids[i]);
+        }
+    }
+
+    /**
+     * Returns the ids in this set as a {@code BitSet}.
+     */
+    public BitSet toBitSet() {
+        BitSet bits = new BitSet(size == 0 ? 0 : ids[size - 1] + 1);
+        addTo(bits);
+        return bits;
+    }
+
+    private void insertAt(int position, int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+    }
+}
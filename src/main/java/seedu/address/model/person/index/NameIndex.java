@@ -0,0 +1,436 @@
+package seedu.address.model.person.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Name;
+
+/**
+ * Answers case-insensitive substring queries over person names.
+ * <p>
+ * Every substring of {@link #GRAM_LENGTH} characters of each case-folded name is mapped to the ids of the
+ * persons whose names contain it. A keyword of at least that length is answered by intersecting the postings of
+ * its substrings of that length, then confirming the few remaining candidates against their names.
+ * <p>
+ * Shorter keywords are answered by comparing them with every name. Such a keyword is contained in a large share
+ * of the names, so its result is about as large as the list itself, and postings for one and two character
+ * substrings would cost more memory, and more time on every edit, than they save on these lookups.
+ * <p>
+ * For queries that allow typos, each word of a name and the whole name are terms. Each distinct term is kept
+ * once, with the ids of the persons whose names have it, so that a term shared by many persons is only compared
+ * with a keyword once. Each term is padded at both ends, and its grams of {@link #FUZZY_GRAM_LENGTH} characters
+ * are indexed together with the length of the term, so that a query only reads the postings of terms about as
+ * long as the keyword.
+ */
+public class NameIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    /** Length of the grams of padded terms used to find the names close to a keyword. */
+    private static final int FUZZY_GRAM_LENGTH = 3;
+    /** Number of grams of a padded term that a single edit, including a transposition, can change. */
+    private static final int FUZZY_GRAM_EDIT_SPAN = FUZZY_GRAM_LENGTH + 1;
+    /** Pads both ends of a term, so that its first and last characters are part of as many grams as the rest. */
+    private static final String PADDING = "$".repeat(FUZZY_GRAM_LENGTH - 1);
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, IdPostings> postings = new HashMap<>();
+    /** Distinct terms of the indexed names by term id, with null for unused term ids. */
+    private final List<String> terms = new ArrayList<>();
+    /** Ids of the persons whose names have each term, by term id. */
+    private final List<IdPostings> personsWithTerm = new ArrayList<>();
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final Deque<Integer> unusedTermIds = new ArrayDeque<>();
+    /** Ids of the terms of some length containing some padded gram, keyed by {@link #fuzzyKey}. */
+    private final Map<Long, IdPostings> fuzzyPostings = new HashMap<>();
+    /** Ids and folded names of the indexed persons, in slots {@code [0, size)}. */
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private String[] foldedNames = new String[INITIAL_CAPACITY];
+    private int size;
+    private final Map<Integer, Integer> slotOfId = new HashMap<>();
+
+    /**
+     * Indexes the name of the person with {@code id}.
+     */
+    public void add(int id, Name name) {
+        remove(id);
+        String folded = fold(name.fullName);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            foldedNames = Arrays.copyOf(foldedNames, size * 2);
+        }
+        ids[size] = id;
+        foldedNames[size] = folded;
+        slotOfId.put(id, size);
+        size++;
+        for (String gram : grams(folded)) {
+            postings.computeIfAbsent(gram, k -> new IdPostings()).add(id);
+        }
+        for (String term : termsOf(folded)) {
+            addTerm(id, term);
+        }
+    }
+
+    /**
+     * Removes the name of the person with {@code id} from the index.
+     */
+    public void remove(int id) {
+        Integer slot = slotOfId.remove(id);
+        if (slot == null) {
+            return;
+        }
+        String folded = foldedNames[slot];
+        // move the last name into the freed slot
+        size--;
+        if (slot != size) {
+            ids[slot] = ids[size];
+            foldedNames[slot] = foldedNames[size];
+            slotOfId.put(ids[slot], slot);
+        }
+        foldedNames[size] = null;
+        for (String gram : grams(folded)) {
+            IdPostings gramIds = postings.get(gram);
+            gramIds.remove(id);
+            if (gramIds.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        for (String term : termsOf(folded)) {
+            removeTerm(id, term);
+        }
+    }
+
+    private void addTerm(int id, String term) {
+        Integer termId = termIds.get(term);
+        if (termId == null) {
+            termId = unusedTermIds.isEmpty() ? terms.size() : unusedTermIds.pop();
+            if (termId == terms.size()) {
+                terms.add(term);
+                personsWithTerm.add(new IdPostings());
+            } else {
+                terms.set(termId, term);
+            }
+            termIds.put(term, termId);
+            for (String gram : paddedGrams(term)) {
+                fuzzyPostings.computeIfAbsent(fuzzyKey(term.length(), gram), k -> new IdPostings()).add(termId);
+            }
+        }
+        personsWithTerm.get(termId).add(id);
+    }
+
+    private void removeTerm(int id, String term) {
+        int termId = termIds.get(term);
+        IdPostings persons = personsWithTerm.get(termId);
+        persons.remove(id);
+        if (!persons.isEmpty()) {
+            return;
+        }
+        for (String gram : paddedGrams(term)) {
+            long key = fuzzyKey(term.length(), gram);
+            IdPostings gramTermIds = fuzzyPostings.get(key);
+            gramTermIds.remove(termId);
+            if (gramTermIds.isEmpty()) {
+                fuzzyPostings.remove(key);
+            }
+        }
+        termIds.remove(term);
+        terms.set(termId, null);
+        unusedTermIds.push(termId);
+    }
+
+    /**
+     * Removes all names from the index.
+     */
+    public void clear() {
+        postings.clear();
+        terms.clear();
+        personsWithTerm.clear();
+        termIds.clear();
+        unusedTermIds.clear();
+        fuzzyPostings.clear();
+        ids = new int[INITIAL_CAPACITY];
+        foldedNames = new String[INITIAL_CAPACITY];
+        size = 0;
+        slotOfId.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose names contain {@code keyword}, ignoring case.
+     */
+    public BitSet idsWithNameContaining(String keyword) {
+        String folded = fold(keyword);
+        BitSet result = new BitSet();
+        if (folded.length() < GRAM_LENGTH) {
+            for (int slot = 0; slot < size; slot++) {
+                if (foldedNames[slot].contains(folded)) {
+                    result.set(ids[slot]);
+                }
+            }
+            return result;
+        }
+        if (folded.length() == GRAM_LENGTH) {
+            IdPostings ids = postings.get(folded);
+            return ids == null ? result : ids.toBitSet();
+        }
+
+        // drive the intersection from the rarest gram of the keyword
+        IdPostings[] gramPostings = new IdPostings[folded.length() - GRAM_LENGTH + 1];
+        int rarest = 0;
+        for (int i = 0; i < gramPostings.length; i++) {
+            gramPostings[i] = postings.get(folded.substring(i, i + GRAM_LENGTH));
+            if (gramPostings[i] == null) {
+                return new BitSet();
+            }
+            if (gramPostings[i].size() < gramPostings[rarest].size()) {
+                rarest = i;
+            }
+        }
+        IdPostings candidates = gramPostings[rarest];
+        for (int i = 0; i < candidates.size(); i++) {
+            int id = candidates.get(i);
+            if (foldedNames[slotOfId.get(id)].contains(folded)) {
+                result.set(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids of the persons whose names are within {@code maxDistance} of {@code keyword}, as measured by
+     * {@link #nameDistance(String, String, int)}.
+     * <p>
+     * A term within {@code maxDistance} edits of the keyword has a length within {@code maxDistance} of the
+     * keyword's, and each edit removes at most {@link #FUZZY_GRAM_EDIT_SPAN} of the keyword's padded grams from
+     * the term. Only the terms of those lengths are looked up, and only the terms sharing enough grams with the
+     * keyword are compared with it. Keywords with too few grams for this to rule out any term, such as those of
+     * six characters, which allow two edits, are compared with every term of those lengths instead.
+     */
+    public BitSet idsWithNameWithin(String keyword, int maxDistance) {
+        String folded = fold(keyword);
+        Set<String> keywordGrams = paddedGrams(folded);
+        int minimumSharedGrams = keywordGrams.size() - maxDistance * FUZZY_GRAM_EDIT_SPAN;
+        BitSet result = new BitSet();
+        if (minimumSharedGrams <= 0) {
+            for (int termId = 0; termId < terms.size(); termId++) {
+                String term = terms.get(termId);
+                if (term != null && Math.abs(term.length() - folded.length()) <= maxDistance) {
+                    addPersonsIfClose(termId, folded, maxDistance, result);
+                }
+            }
+            return result;
+        }
+
+        List<IdPostings> gramPostings = new ArrayList<>();
+        for (int length = Math.max(1, folded.length() - maxDistance); length <= folded.length() + maxDistance;
+                length++) {
+            for (String gram : keywordGrams) {
+                IdPostings gramTermIds = fuzzyPostings.get(fuzzyKey(length, gram));
+                if (gramTermIds != null) {
+                    gramPostings.add(gramTermIds);
+                }
+            }
+        }
+        if (gramPostings.size() < minimumSharedGrams) {
+            return result;
+        }
+        PostingsMerger merger = new PostingsMerger(gramPostings);
+        while (merger.hasNext()) {
+            int termId = merger.next();
+            if (merger.getOccurrences() >= minimumSharedGrams) {
+                addPersonsIfClose(termId, folded, maxDistance, result);
+            }
+        }
+        return result;
+    }
+
+    private void addPersonsIfClose(int termId, String foldedKeyword, int maxDistance, BitSet result) {
+        if (StringUtil.damerauLevenshteinDistance(terms.get(termId), foldedKeyword, maxDistance) <= maxDistance) {
+            personsWithTerm.get(termId).addTo(result);
+        }
+    }
+
+    /**
+     * Returns the smallest Damerau-Levenshtein distance, ignoring case, between {@code keyword} and either
+     * {@code name} or one of the words of {@code name}, if it is at most {@code maxDistance}.
+     * Returns {@code maxDistance + 1} otherwise.
+     */
+    public static int nameDistance(String name, String keyword, int maxDistance) {
+        String foldedName = fold(name);
+        String foldedKeyword = fold(keyword);
+        int distance = StringUtil.damerauLevenshteinDistance(foldedName, foldedKeyword, maxDistance);
+        int wordStart = 0;
+        while (distance > 0 && wordStart < foldedName.length()) {
+            int wordEnd = foldedName.indexOf(' ', wordStart);
+            if (wordEnd < 0) {
+                wordEnd = foldedName.length();
+            }
+            if (wordEnd > wordStart) {
+                String word = foldedName.substring(wordStart, wordEnd);
+                distance = Math.min(distance, StringUtil.damerauLevenshteinDistance(word, foldedKeyword, maxDistance));
+            }
+            wordStart = wordEnd + 1;
+        }
+        return distance;
+    }
+
+    /**
+     * Returns the number of names in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code text} folded to the case used in the index. Names and keywords only contain ASCII
+     * alphanumeric characters and spaces, so this agrees with case-insensitive matching.
+     */
+    static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String folded) {
+        return gramsOfLength(folded, GRAM_LENGTH);
+    }
+
+    /**
+     * Returns the distinct grams of {@code term} padded at both ends.
+     */
+    private static Set<String> paddedGrams(String term) {
+        return gramsOfLength(PADDING + term + PADDING, FUZZY_GRAM_LENGTH);
+    }
+
+    /**
+     * Returns the terms of the folded name {@code folded}: the name itself and each of its words.
+     */
+    private static Set<String> termsOf(String folded) {
+        Set<String> terms = new HashSet<>();
+        terms.add(folded);
+        for (String word : folded.split(" ")) {
+            if (!word.isEmpty()) {
+                terms.add(word);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the key of the fuzzy postings of {@code gram} in terms of {@code termLength} characters.
+     */
+    private static long fuzzyKey(int termLength, String gram) {
+        long key = termLength;
+        for (int i = 0; i < gram.length(); i++) {
+            key = (key << Character.SIZE) | gram.charAt(i);
+        }
+        return key;
+    }
+
+    private static Set<String> gramsOfLength(String folded, int length) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start + length <= folded.length(); start++) {
+            grams.add(folded.substring(start, start + length));
+        }
+        return grams;
+    }
+
+    /**
+     * Merges several postings in increasing order of ids, counting the postings each id occurs in.
+     * The postings are kept in a heap ordered by the id at their current position, so merging takes time in
+     * proportion to the total size of the postings, and memory in proportion to their number.
+     */
+    private static class PostingsMerger {
+        private final IdPostings[] postings;
+        private final int[] positions;
+        /** Indexes of the postings that are not used up, as a binary heap. */
+        private final int[] heap;
+        private int heapSize;
+        private int occurrences;
+
+        PostingsMerger(List<IdPostings> postings) {
+            this.postings = postings.toArray(new IdPostings[0]);
+            this.positions = new int[this.postings.length];
+            this.heap = new int[this.postings.length];
+            for (int i = 0; i < this.postings.length; i++) {
+                if (!this.postings[i].isEmpty()) {
+                    heap[heapSize] = i;
+                    siftUp(heapSize++);
+                }
+            }
+        }
+
+        boolean hasNext() {
+            return heapSize > 0;
+        }
+
+        /**
+         * Returns the smallest id not returned yet, and moves past it in every postings it occurs in.
+         */
+        int next() {
+            int id = head(heap[0]);
+            occurrences = 0;
+            while (heapSize > 0 && head(heap[0]) == id) {
+                occurrences++;
+                int top = heap[0];
+                positions[top]++;
+                if (positions[top] == postings[top].size()) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(0);
+            }
+            return id;
+        }
+
+        /**
+         * Returns the number of postings the id last returned by {@link #next()} occurs in.
+         */
+        int getOccurrences() {
+            return occurrences;
+        }
+
+        private int head(int posting) {
+            return postings[posting].get(positions[posting]);
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) / 2;
+                if (head(heap[parent]) <= head(heap[position])) {
+                    return;
+                }
+                swap(parent, position);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int position) {
+            while (true) {
+                int smallest = position;
+                for (int child = 2 * position + 1; child <= 2 * position + 2 && child < heapSize; child++) {
+                    if (head(heap[child]) < head(heap[smallest])) {
+                        smallest = child;
+                    }
+                }
+                if (smallest == position) {
+                    return;
+                }
+                swap(smallest, position);
+                position = smallest;
+            }
+        }
+
+        private void swap(int first, int second) {
+            int swapped = heap[first];
+            heap[first] = heap[second];
+            heap[second] = swapped;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Client;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Supplier;
+
+/**
+ * Field indexes over the persons in a {@code UniquePersonList}, keyed by person id value.
+ * The list keeps the indexes up to date as persons are added, edited and removed.
+ * Every change increments the version of the index, so results computed from an earlier version can be told
+ * apart from current ones.
+ */
+public class PersonIndex {
+
+    private final BitSet ids = new BitSet();
+    private final NameIndex nameIndex = new NameIndex();
+    private final TermIndex tagIndex = new TermIndex();
+    private final TermIndex roleIndex = new TermIndex();
+    private final TermIndex skillIndex = new TermIndex();
+    private final TermIndex productIndex = new TermIndex();
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+    private final EmailIndex emailIndex = new EmailIndex();
+    private final RemarkIndex remarkIndex = new RemarkIndex();
+    private final SortKeyIndex sortKeyIndex = new SortKeyIndex();
+    private long version;
+
+    /**
+     * Adds {@code person} to all indexes.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int id = person.getId().value;
+        ids.set(id);
+        nameIndex.add(id, person.getName());
+        tagIndex.add(id, person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+        roleIndex.add(id, List.of(person.getRole()));
+        skillIndex.add(id, skillsOf(person));
+        productIndex.add(id, productsOf(person));
+        phoneIndex.add(id, person.getPhone());
+        emailIndex.add(id, person.getEmail());
+        remarkIndex.add(id, person.getRemark());
+        sortKeyIndex.add(person);
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from all indexes.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        int id = person.getId().value;
+        ids.clear(id);
+        nameIndex.remove(id);
+        tagIndex.remove(id);
+        roleIndex.remove(id);
+        skillIndex.remove(id);
+        productIndex.remove(id);
+        phoneIndex.remove(id);
+        emailIndex.remove(id);
+        remarkIndex.remove(id);
+        sortKeyIndex.remove(person);
+        version++;
+    }
+
+    /**
+     * Removes all persons from all indexes.
+     */
+    public void clear() {
+        ids.clear();
+        nameIndex.clear();
+        tagIndex.clear();
+        roleIndex.clear();
+        skillIndex.clear();
+        productIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        remarkIndex.clear();
+        sortKeyIndex.clear();
+        version++;
+    }
+
+    /**
+     * Returns true if a person with {@code id} is in the index.
+     */
+    public boolean contains(int id) {
+        return ids.get(id);
+    }
+
+    /**
+     * Returns the ids of all persons in the index.
+     */
+    public BitSet allIds() {
+        return (BitSet) ids.clone();
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        return ids.cardinality();
+    }
+
+    public NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    public TermIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public TermIndex getRoleIndex() {
+        return roleIndex;
+    }
+
+    public TermIndex getSkillIndex() {
+        return skillIndex;
+    }
+
+    public TermIndex getProductIndex() {
+        return productIndex;
+    }
+
+    public PhoneIndex getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    public EmailIndex getEmailIndex() {
+        return emailIndex;
+    }
+
+    public RemarkIndex getRemarkIndex() {
+        return remarkIndex;
+    }
+
+    public SortKeyIndex getSortKeyIndex() {
+        return sortKeyIndex;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the skills of {@code person}, which only employees have.
+     */
+    private static Collection<String> skillsOf(Person person) {
+        if (person instanceof Employee) {
+            return ((Employee) person).getSkills().getSkills();
+        }
+        return List.of();
+    }
+
+    /**
+     * Returns the products of {@code person}, which only clients and suppliers have.
+     */
+    private static Collection<String> productsOf(Person person) {
+        if (person instanceof Client) {
+            return ((Client) person).getProducts().getProducts();
+        } else if (person instanceof Supplier) {
+            return ((Supplier) person).getProducts().getProducts();
+        }
+        return List.of();
+    }
+}
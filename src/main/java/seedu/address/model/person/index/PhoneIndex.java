@@ -0,0 +1,148 @@
+package seedu.address.model.person.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Phone;
+
+/**
+ * Answers exact and prefix queries over person phone numbers in logarithmic time.
+ * <p>
+ * Every phone number is 8 digits long, so it is stored as an int. Each person is one entry of a sorted long
+ * array, with the phone number in the high 32 bits and the person id in the low 32 bits, so that the persons
+ * whose phone numbers start with some digits form a single range of the array.
+ */
+public class PhoneIndex {
+
+    private static final int PHONE_LENGTH = 8;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] entries = new long[INITIAL_CAPACITY];
+    private int size;
+    private final Map<Integer, Integer> phoneOfId = new HashMap<>();
+
+    /**
+     * Indexes the phone number of the person with {@code id}.
+     */
+    public void add(int id, Phone phone) {
+        remove(id);
+        int digits = Integer.parseInt(phone.value);
+        phoneOfId.put(id, digits);
+        long entry = entryOf(digits, id);
+        int position = -Arrays.binarySearch(entries, 0, size, entry) - 1;
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        System.arraycopy(entries, position, entries, position + 1, size - position);
+        entries[position] = entry;
+        size++;
+    }
+
+    /**
+     * Removes the phone number of the person with {@code id} from the index.
+     */
+    public void remove(int id) {
+        Integer digits = phoneOfId.remove(id);
+        if (digits == null) {
+            return;
+        }
+        int position = Arrays.binarySearch(entries, 0, size, entryOf(digits, id));
+        System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Removes all phone numbers from the index.
+     */
+    public void clear() {
+        entries = new long[INITIAL_CAPACITY];
+        size = 0;
+        phoneOfId.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose phone numbers start with {@code prefix}, which is between 1 and 8
+     * digits long. A prefix of 8 digits matches the phone number exactly.
+     */
+    public BitSet idsWithPhonePrefix(String prefix) {
+        BitSet ids = new BitSet();
+        addIdsWithPhonePrefix(prefix, ids);
+        return ids;
+    }
+
+    /**
+     * Sets the bits of the ids of the persons whose phone numbers start with {@code prefix} in {@code ids}.
+     */
+    public void addIdsWithPhonePrefix(String prefix, BitSet ids) {
+        int from = lowerBound(prefix);
+        int to = upperBound(prefix);
+        for (int i = from; i < to; i++) {
+            ids.set((int) entries[i]);
+        }
+    }
+
+    /**
+     * Returns the number of persons whose phone numbers start with {@code prefix}.
+     */
+    public int countWithPhonePrefix(String prefix) {
+        return upperBound(prefix) - lowerBound(prefix);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static long entryOf(int digits, int id) {
+        return ((long) digits << Integer.SIZE) | (id & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the smallest phone number starting with {@code prefix}.
+     */
+    private static long smallestWithPrefix(String prefix) {
+        if (prefix.isEmpty() || prefix.length() > PHONE_LENGTH || !prefix.chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("Phone prefix should be 1 to 8 digits: " + prefix);
+        }
+        long digits = Long.parseLong(prefix);
+        for (int i = prefix.length(); i < PHONE_LENGTH; i++) {
+            digits *= 10;
+        }
+        return digits;
+    }
+
+    /**
+     * Returns the number of phone numbers starting with a given prefix of {@code prefixLength} digits.
+     */
+    private static long rangeWidth(int prefixLength) {
+        long width = 1;
+        for (int i = prefixLength; i < PHONE_LENGTH; i++) {
+            width *= 10;
+        }
+        return width;
+    }
+
+    private int lowerBound(String prefix) {
+        return firstPositionAtLeast(smallestWithPrefix(prefix) << Integer.SIZE);
+    }
+
+    private int upperBound(String prefix) {
+        long end = smallestWithPrefix(prefix) + rangeWidth(prefix.length());
+        return firstPositionAtLeast(end << Integer.SIZE);
+    }
+
+    private int firstPositionAtLeast(long entry) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries[middle] < entry) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Remark;
+
+/**
+ * Answers whole word queries over person remarks, ignoring case.
+ * <p>
+ * Each word of a remark, with words separated by whitespace, is mapped to the ids of the persons whose remarks
+ * contain it, so that the persons whose remarks contain several words are found by intersecting the postings
+ * of those words. The persons with blank remarks are kept in a set of their own.
+ */
+public class RemarkIndex {
+
+    private final TermIndex wordIndex = new TermIndex();
+    private final IdPostings blankRemarkIds = new IdPostings();
+
+    /**
+     * Indexes the remark of the person with {@code id}, replacing any remark already indexed for {@code id}.
+     */
+    public void add(int id, Remark remark) {
+        remove(id);
+        if (remark.value.isBlank()) {
+            blankRemarkIds.add(id);
+            return;
+        }
+        wordIndex.add(id, wordsOf(remark.value));
+    }
+
+    /**
+     * Removes the remark of the person with {@code id} from the index.
+     */
+    public void remove(int id) {
+        blankRemarkIds.remove(id);
+        wordIndex.remove(id);
+    }
+
+    /**
+     * Removes all remarks from the index.
+     */
+    public void clear() {
+        wordIndex.clear();
+        blankRemarkIds.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose remarks contain every one of {@code words} as a whole word,
+     * ignoring case. No persons are returned if {@code words} is empty.
+     */
+    public BitSet idsWithAllWords(Collection<String> words) {
+        if (words.isEmpty()) {
+            return new BitSet();
+        }
+        // intersect from the rarest word, so that the result shrinks as early as possible
+        String[] byCount = words.toArray(String[]::new);
+        Arrays.sort(byCount, Comparator.comparingInt(wordIndex::countOf));
+        BitSet ids = wordIndex.idsWithTerm(byCount[0]);
+        for (int i = 1; i < byCount.length && !ids.isEmpty(); i++) {
+            ids.and(wordIndex.idsWithTerm(byCount[i]));
+        }
+        return ids;
+    }
+
+    /**
+     * Sets the bits of the ids of the persons with blank remarks in {@code ids}.
+     */
+    public void addIdsWithBlankRemark(BitSet ids) {
+        blankRemarkIds.addTo(ids);
+    }
+
+    /**
+     * Returns the words of {@code remark}, which are separated by whitespace.
+     */
+    static List<String> wordsOf(String remark) {
+        return Arrays.stream(remark.split("\\s+")).filter(word -> !word.isEmpty()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
+
+/**
+ * Holds the collation key of every text {@link SortField} of every indexed person, keyed by the person itself.
+ * <p>
+ * Comparing two strings with a {@code Collator} decomposes both strings each time, while comparing their
+ * collation keys is a plain byte comparison. Sorting n persons makes O(n log n) comparisons, so the keys are
+ * computed once when a person is added or edited, and the comparators of this index only compare the stored
+ * keys.
+ * <p>
+ * Keys are stored per {@code Person} instance rather than per id, so that the order of a person never changes
+ * while it is being compared. A sorted list locates a person that was just edited out or deleted by searching for
+ * it with the comparator, which only works if the person still compares with the key of its own values. The key of
+ * a person that is not indexed is therefore computed when it is compared.
+ */
+public class SortKeyIndex {
+
+    private final Collator collator;
+    private final Map<SortField, Map<Person, CollationKey>> keysByField = new EnumMap<>(SortField.class);
+
+    /**
+     * Creates an empty index that orders text alphabetically, ignoring case.
+     */
+    public SortKeyIndex() {
+        collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.SECONDARY);
+        for (SortField field : SortField.values()) {
+            if (field.isText()) {
+                keysByField.put(field, new IdentityHashMap<>());
+            }
+        }
+    }
+
+    /**
+     * Indexes the sort keys of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        keysByField.forEach((field, keys) -> field.textOf(person)
+                .ifPresent(text -> keys.put(person, collator.getCollationKey(text))));
+    }
+
+    /**
+     * Removes the sort keys of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        keysByField.values().forEach(keys -> keys.remove(person));
+    }
+
+    /**
+     * Removes all sort keys from the index.
+     */
+    public void clear() {
+        keysByField.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns the sort key of {@code field} for {@code person}, if the person has a value for it.
+     */
+    public Optional<CollationKey> keyOf(SortField field, Person person) {
+        requireAllNonNull(field, person);
+        checkText(field);
+        return Optional.ofNullable(keyOrNull(keysByField.get(field), field, person));
+    }
+
+    private CollationKey keyOrNull(Map<Person, CollationKey> keys, SortField field, Person person) {
+        CollationKey key = keys.get(person);
+        if (key != null) {
+            return key;
+        }
+        return field.textOf(person).map(collator::getCollationKey).orElse(null);
+    }
+
+    /**
+     * Returns a comparator that orders persons by {@code field}, then by id.
+     * Persons without a value for {@code field} are ordered after those with one.
+     */
+    public Comparator<Person> comparatorFor(SortField field) {
+        requireNonNull(field);
+        Comparator<Person> byId = Comparator.comparingInt(person -> person.getId().value);
+        if (!field.isText()) {
+            return byId;
+        }
+        Map<Person, CollationKey> keys = keysByField.get(field);
+        Comparator<Person> byKey = Comparator.comparing(person -> keyOrNull(keys, field, person),
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        return byKey.thenComparing(byId);
+    }
+
+    private static void checkText(SortField field) {
+        if (!field.isText()) {
+            throw new IllegalArgumentException("Field is not sorted as text: " + field.getKeyword());
+        }
+    }
+}
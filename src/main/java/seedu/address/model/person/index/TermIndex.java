@@ -0,0 +1,90 @@
+package seedu.address.model.person.index;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.KeywordMatcher;
+
+/**
+ * Maps whole terms, such as tag names, to the ids of the persons that have them, ignoring case.
+ * Terms are compared the way {@link String#equalsIgnoreCase(String)} compares them.
+ */
+public class TermIndex {
+
+    private static final String[] NO_TERMS = new String[0];
+
+    private final Map<String, IdPostings> postings = new HashMap<>();
+    private final Map<Integer, String[]> termsOfId = new HashMap<>();
+
+    /**
+     * Indexes {@code terms} for the person with {@code id}, replacing any terms already indexed for {@code id}.
+     */
+    public void add(int id, Collection<String> terms) {
+        remove(id);
+        String[] folded = terms.stream().map(KeywordMatcher::fold).distinct().toArray(String[]::new);
+        if (folded.length == 0) {
+            return;
+        }
+        termsOfId.put(id, folded);
+        for (String term : folded) {
+            postings.computeIfAbsent(term, k -> new IdPostings()).add(id);
+        }
+    }
+
+    /**
+     * Removes the terms of the person with {@code id} from the index.
+     */
+    public void remove(int id) {
+        for (String term : termsOfId.getOrDefault(id, NO_TERMS)) {
+            IdPostings ids = postings.get(term);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        termsOfId.remove(id);
+    }
+
+    /**
+     * Removes all terms from the index.
+     */
+    public void clear() {
+        postings.clear();
+        termsOfId.clear();
+    }
+
+    /**
+     * Returns the ids of the persons with {@code term}, ignoring case.
+     */
+    public BitSet idsWithTerm(String term) {
+        IdPostings ids = postings.get(KeywordMatcher.fold(term));
+        return ids == null ? new BitSet() : ids.toBitSet();
+    }
+
+    /**
+     * Sets the bits of the ids of the persons with {@code term} in {@code ids}, ignoring case.
+     */
+    public void addIdsWithTerm(String term, BitSet ids) {
+        IdPostings termIds = postings.get(KeywordMatcher.fold(term));
+        if (termIds != null) {
+            termIds.addTo(ids);
+        }
+    }
+
+    /**
+     * Returns the number of persons with {@code term}, ignoring case.
+     */
+    public int countOf(String term) {
+        IdPostings ids = postings.get(KeywordMatcher.fold(term));
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Returns the number of distinct terms in the index.
+     */
+    public int termCount() {
+        return postings.size();
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Tracks the connected components of a {@link RelationGraph} with a union-find structure.
+ * <p>
+ * Adding an edge merges two components in near constant time. Removing edges may split a component, which
+ * union-find cannot express, so the affected component is only marked as stale; it is rebuilt from the
+ * graph, visiting just its own members and their edges, the next time the index is queried.
+ * The members of every component are also linked in a circular list, so that a component can be listed in
+ * time proportional to its size.
+ */
+public class ComponentIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final RelationGraph graph;
+
+    /** Dense index of every id that has been related. */
+    private final Map<Integer, Integer> indexOfId = new HashMap<>();
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    /** Size of the component, only meaningful for roots. */
+    private int[] sizes = new int[INITIAL_CAPACITY];
+    /** Next member of the same component, forming a circular list. */
+    private int[] nextMembers = new int[INITIAL_CAPACITY];
+    /** Whether the component may have split since it was last built, only meaningful for roots. */
+    private boolean[] stale = new boolean[INITIAL_CAPACITY];
+    private int idCount;
+
+    /** Indexes of roots that were marked stale since the last repair. */
+    private final List<Integer> staleRoots = new ArrayList<>();
+
+    /** Number of components of each size, for sizes of at least 2. */
+    private final TreeMap<Integer, Integer> sizeCounts = new TreeMap<>();
+
+    /**
+     * Creates an empty index over the edges of {@code graph}.
+     */
+    public ComponentIndex(RelationGraph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Records that {@code first} and {@code second} are related, merging their components.
+     */
+    public void union(int first, int second) {
+        unionIndexes(indexOf(first), indexOf(second));
+    }
+
+    /**
+     * Records that edges incident to {@code id} have been removed, so its component may have split.
+     */
+    public void markStale(int id) {
+        Integer index = indexOfId.get(id);
+        if (index == null) {
+            return;
+        }
+        int root = find(index);
+        if (!stale[root]) {
+            stale[root] = true;
+            staleRoots.add(root);
+        }
+    }
+
+    /**
+     * Removes all ids from the index.
+     */
+    public void clear() {
+        indexOfId.clear();
+        ids = new int[INITIAL_CAPACITY];
+        parents = new int[INITIAL_CAPACITY];
+        sizes = new int[INITIAL_CAPACITY];
+        nextMembers = new int[INITIAL_CAPACITY];
+        stale = new boolean[INITIAL_CAPACITY];
+        idCount = 0;
+        staleRoots.clear();
+        sizeCounts.clear();
+    }
+
+    /**
+     * Returns the ids in the same component as {@code id}, including {@code id} itself.
+     */
+    public int[] componentOf(int id) {
+        repairStaleComponents();
+        Integer index = indexOfId.get(id);
+        if (index == null) {
+            return new int[] {id};
+        }
+        int[] members = new int[sizes[find(index)]];
+        int member = index;
+        for (int i = 0; i < members.length; i++) {
+            members[i] = ids[member];
+            member = nextMembers[member];
+        }
+        return members;
+    }
+
+    /**
+     * Returns the number of ids in the same component as {@code id}, including {@code id} itself.
+     */
+    public int componentSize(int id) {
+        repairStaleComponents();
+        Integer index = indexOfId.get(id);
+        return index == null ? 1 : sizes[find(index)];
+    }
+
+    /**
+     * Returns the number of components of each size, for components of at least two related ids.
+     */
+    public SortedMap<Integer, Integer> sizeDistribution() {
+        repairStaleComponents();
+        return Collections.unmodifiableSortedMap(new TreeMap<>(sizeCounts));
+    }
+
+    //// union-find
+
+    private int indexOf(int id) {
+        Integer index = indexOfId.get(id);
+        if (index != null) {
+            return index;
+        }
+        if (idCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+            nextMembers = Arrays.copyOf(nextMembers, capacity);
+            stale = Arrays.copyOf(stale, capacity);
+        }
+        int newIndex = idCount++;
+        ids[newIndex] = id;
+        makeSingleton(newIndex);
+        indexOfId.put(id, newIndex);
+        return newIndex;
+    }
+
+    private void makeSingleton(int index) {
+        parents[index] = index;
+        sizes[index] = 1;
+        nextMembers[index] = index;
+        stale[index] = false;
+    }
+
+    private int find(int index) {
+        int root = index;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        // path compression
+        while (parents[index] != root) {
+            int next = parents[index];
+            parents[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    private void unionIndexes(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot) {
+            return;
+        }
+        // union by size
+        if (sizes[firstRoot] < sizes[secondRoot]) {
+            int swapped = firstRoot;
+            firstRoot = secondRoot;
+            secondRoot = swapped;
+        }
+        changeSizeCount(sizes[firstRoot], -1);
+        changeSizeCount(sizes[secondRoot], -1);
+        parents[secondRoot] = firstRoot;
+        sizes[firstRoot] += sizes[secondRoot];
+        changeSizeCount(sizes[firstRoot], 1);
+
+        // splicing two circular lists only swaps one successor in each
+        int firstNext = nextMembers[firstRoot];
+        nextMembers[firstRoot] = nextMembers[secondRoot];
+        nextMembers[secondRoot] = firstNext;
+
+        if (stale[secondRoot] && !stale[firstRoot]) {
+            stale[firstRoot] = true;
+            staleRoots.add(firstRoot);
+        }
+    }
+
+    private void changeSizeCount(int size, int change) {
+        if (size >= 2) {
+            sizeCounts.merge(size, change, (count, delta) -> count + delta == 0 ? null : count + delta);
+        }
+    }
+
+    //// lazy repair
+
+    private void repairStaleComponents() {
+        if (staleRoots.isEmpty()) {
+            return;
+        }
+        List<Integer> roots = new ArrayList<>(staleRoots);
+        staleRoots.clear();
+        for (int root : roots) {
+            if (parents[root] == root && stale[root]) {
+                rebuildComponent(root);
+            }
+        }
+    }
+
+    /**
+     * Splits the component rooted at {@code root} into singletons and merges them again along the edges that
+     * remain in the graph.
+     */
+    private void rebuildComponent(int root) {
+        int[] members = new int[sizes[root]];
+        int member = root;
+        for (int i = 0; i < members.length; i++) {
+            members[i] = member;
+            member = nextMembers[member];
+        }
+        changeSizeCount(sizes[root], -1);
+        for (int index : members) {
+            makeSingleton(index);
+        }
+        for (int index : members) {
+            int[] related = graph.neighbourArray(ids[index]);
+            for (int relatedId : related) {
+                unionIndexes(index, indexOf(relatedId));
+            }
+        }
+    }
+}
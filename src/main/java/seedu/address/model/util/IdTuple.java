@@ -57,6 +57,12 @@ public class IdTuple {
                 && secondPersonId.equals(otherTuple.getFirstPersonId());
     }
 
+    @Override
+    public int hashCode() {
+        // symmetric, as a tuple equals its reversed tuple
+        return firstPersonId.hashCode() + secondPersonId.hashCode();
+    }
+
     public boolean relatesItself() {
         return firstPersonId.equals(secondPersonId);
     }
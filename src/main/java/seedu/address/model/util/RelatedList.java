@@ -1,10 +1,16 @@
 package seedu.address.model.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.SortedMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -12,15 +18,34 @@ import seedu.address.model.person.Id;
 
 /**
  * Contains tuple methods for relate command storage.
+ * Relations are kept in a {@link RelationGraph}, which stores them as primitive id pairs together with an
+ * adjacency index, so that relation lookups neither scan the relations nor allocate {@code IdTuple}s.
+ * {@code IdTuple}s are only created when the relations are read as a list, which is built once and then reused
+ * until the relations change, or when they are iterated over, which walks the relations in place.
+ * A {@link ComponentIndex} over the same relations keeps track of the clusters of related persons.
  */
 public class RelatedList implements Iterable<IdTuple> {
 
-    private final ObservableList<IdTuple> relatedPersons = FXCollections.observableArrayList();
-    private final ObservableList<IdTuple> relatedPersonsUnmodifiableList =
-            FXCollections.unmodifiableObservableList(relatedPersons);
+    private final RelationGraph graph = new RelationGraph();
+    private final ComponentIndex components = new ComponentIndex(graph);
+    /** The relations as a list, or null if they changed since the list was last built. */
+    private List<IdTuple> idTupleSnapshot;
+    /** Number of changes to the relations, used to detect changes during iteration. */
+    private int modCount;
 
+    /**
+     * Returns the relations as an unmodifiable list of {@code IdTuple}s.
+     * The list is a snapshot and does not reflect later changes.
+     */
     public List<IdTuple> getListIdTuple() {
-        return relatedPersons;
+        if (idTupleSnapshot == null) {
+            List<IdTuple> idTuples = new ArrayList<>(graph.edgeCount());
+            for (int i = 0; i < graph.edgeCount(); i++) {
+                idTuples.add(get(i));
+            }
+            idTupleSnapshot = Collections.unmodifiableList(idTuples);
+        }
+        return idTupleSnapshot;
     }
 
     /**
@@ -40,7 +65,7 @@ public class RelatedList implements Iterable<IdTuple> {
             String[] ids = idTuple.split("relates");
             Id id1 = Id.generateTempId(Integer.parseInt(ids[0]));
             Id id2 = Id.generateTempId(Integer.parseInt(ids[1]));
-            relatedPersons.add(new IdTuple(id1, id2));
+            relatedList.allowAddIdTuple(new IdTuple(id1, id2));
         }
         return relatedList;
     }
@@ -58,15 +83,32 @@ public class RelatedList implements Iterable<IdTuple> {
 
         RelatedList otherList = (RelatedList) other;
 
-        return relatedPersons.equals(otherList);
+        return getListIdTuple().equals(otherList.getListIdTuple());
+    }
+
+    @Override
+    public int hashCode() {
+        return getListIdTuple().hashCode();
     }
 
     public IdTuple get(int index) {
-        return relatedPersons.get(index);
+        return new IdTuple(Id.generateTempId(graph.getFirst(index)), Id.generateTempId(graph.getSecond(index)));
     }
 
+    /**
+     * Replaces the contents of this list with {@code idTuples}.
+     * Duplicate relations, including reversed ones, are only kept once.
+     */
     public void setRelatedList(List<IdTuple> idTuples) {
-        relatedPersons.addAll(idTuples);
+        requireNonNull(idTuples);
+        // copy first, as idTuples may be a view of this list
+        List<IdTuple> replacement = new ArrayList<>(idTuples);
+        graph.clear();
+        components.clear();
+        relationsChanged();
+        for (IdTuple idTuple : replacement) {
+            allowAddIdTuple(idTuple);
+        }
     }
 
     /**
@@ -77,12 +119,13 @@ public class RelatedList implements Iterable<IdTuple> {
      */
     public boolean allowAddIdTuple(IdTuple idTuple) {
         requireNonNull(idTuple);
-        for (IdTuple oneIdTuple : relatedPersons) {
-            if (oneIdTuple.equals(idTuple)) {
-                return false;
-            }
+        int first = idTuple.getFirstPersonId().value;
+        int second = idTuple.getSecondPersonId().value;
+        if (!graph.addEdge(first, second)) {
+            return false;
         }
-        relatedPersons.add(idTuple);
+        components.union(first, second);
+        relationsChanged();
         return true;
     }
 
@@ -94,12 +137,7 @@ public class RelatedList implements Iterable<IdTuple> {
      */
     public boolean hasId(IdTuple idTuple) {
         requireNonNull(idTuple);
-        for (IdTuple oneIdTuple : relatedPersons) {
-            if (oneIdTuple.equals(idTuple)) {
-                return true;
-            }
-        }
-        return false;
+        return graph.hasEdge(idTuple.getFirstPersonId().value, idTuple.getSecondPersonId().value);
     }
 
     /**
@@ -110,11 +148,13 @@ public class RelatedList implements Iterable<IdTuple> {
      */
     public boolean removeTuple(IdTuple idTuple) {
         requireNonNull(idTuple);
-        if (relatedPersons.contains(idTuple)) {
-            relatedPersons.remove(idTuple);
-            return true;
+        int first = idTuple.getFirstPersonId().value;
+        if (!graph.removeEdge(first, idTuple.getSecondPersonId().value)) {
+            return false;
         }
-        return relatedPersons.remove(idTuple.getReversedTuple());
+        components.markStale(first);
+        relationsChanged();
+        return true;
     }
 
     /**
@@ -126,22 +166,59 @@ public class RelatedList implements Iterable<IdTuple> {
      */
     public List<Integer> getAllRelatedIds(RelatedList relatedList, Id id) {
         List<Integer> relatedIds = new ArrayList<>();
+        relatedList.getRelatedIds(id).forEachRemaining((int relatedId) -> relatedIds.add(relatedId));
+        return relatedIds;
+    }
 
-        // Iterate through all IdTuple objects in the RelatedList
-        for (int i = 0; i < relatedList.size(); i++) {
-            assert i >= 0 && i < relatedList.size();
+    /**
+     * Returns an iterator over the values of the ids related to {@code id}.
+     * The iterator must not be used after this list is modified.
+     */
+    public PrimitiveIterator.OfInt getRelatedIds(Id id) {
+        requireNonNull(id);
+        return graph.neighbours(id.value);
+    }
 
-            IdTuple idTuple = relatedList.get(i);
+    /**
+     * Returns the values of the ids related to {@code id}.
+     */
+    public int[] getRelatedIdValues(Id id) {
+        requireNonNull(id);
+        return graph.neighbourArray(id.value);
+    }
 
-            // Check if the provided ID matches either the first or the second ID in the
-            // tuple
-            if (idTuple.getFirstPersonId().equals(id)) {
-                relatedIds.add(idTuple.getSecondPersonId().value);
-            } else if (idTuple.getSecondPersonId().equals(id)) {
-                relatedIds.add(idTuple.getFirstPersonId().value);
-            }
-        }
-        return relatedIds;
+    /**
+     * Returns the values of the ids within {@code depth} relations of {@code id}, excluding {@code id} itself,
+     * nearest first. At most {@code limit} values are returned.
+     */
+    public int[] getIdValuesWithinDepth(Id id, int depth, int limit) {
+        requireNonNull(id);
+        return graph.idsWithinDepth(id.value, depth, limit);
+    }
+
+    /**
+     * Returns the values of the ids on a shortest chain of relations from {@code from} to {@code to}, both
+     * included, or an empty array if there is no such chain.
+     */
+    public int[] getShortestPath(Id from, Id to) {
+        requireAllNonNull(from, to);
+        return graph.shortestPath(from.value, to.value);
+    }
+
+    /**
+     * Returns the values of the ids in the same cluster of related persons as {@code id}, including
+     * {@code id} itself.
+     */
+    public int[] getClusterIdValues(Id id) {
+        requireNonNull(id);
+        return components.componentOf(id.value);
+    }
+
+    /**
+     * Returns the number of clusters of each size, for clusters of at least two related persons.
+     */
+    public SortedMap<Integer, Integer> getClusterSizeDistribution() {
+        return components.sizeDistribution();
     }
 
     /**
@@ -151,30 +228,69 @@ public class RelatedList implements Iterable<IdTuple> {
      */
     public void removeId(Id id) {
         requireNonNull(id);
-        relatedPersons.removeIf(idTuple ->
-                idTuple.getFirstPersonId().equals(id) || idTuple.getSecondPersonId().equals(id));
+        if (graph.removeVertex(id.value).length > 0) {
+            components.markStale(id.value);
+            relationsChanged();
+        }
+    }
+
+    private void relationsChanged() {
+        idTupleSnapshot = null;
+        modCount++;
     }
 
+    /**
+     * Returns the relations as an unmodifiable {@code ObservableList}.
+     * The list is a snapshot and does not reflect later changes.
+     */
     public ObservableList<IdTuple> asUnmodifiableObservableList() {
-        return relatedPersonsUnmodifiableList;
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(getListIdTuple()));
     }
 
+    /**
+     * Returns an iterator over the relations, which creates each {@code IdTuple} as it is reached.
+     *
+     * @throws ConcurrentModificationException from the iterator if this list is modified during iteration.
+     */
     @Override
     public Iterator<IdTuple> iterator() {
-        return relatedPersons.iterator();
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                checkUnmodified();
+                return next < graph.edgeCount();
+            }
+
+            @Override
+            public IdTuple next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+
+            private void checkUnmodified() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
     }
 
 
     public int size() {
-        return relatedPersons.size();
+        return graph.edgeCount();
     }
 
     public boolean isEmpty() {
-        return relatedPersons.isEmpty();
+        return graph.edgeCount() == 0;
     }
 
     public String toString() {
-        return relatedPersons.toString();
+        return getListIdTuple().toString();
     }
 
 }
@@ -0,0 +1,559 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A compact undirected graph of relations between person ids.
+ * <p>
+ * Ids and edges are kept in primitive arrays so that no objects are allocated per relation:
+ * <ul>
+ *     <li>every edge is encoded as a {@code long} holding both ids, in the orientation it was added;</li>
+ *     <li>an open-addressing table maps each edge, irrespective of orientation, to its position in the
+ *     edge array, so duplicate and reversed-edge checks are constant time;</li>
+ *     <li>an open-addressing table maps each id to an {@code int} array of the ids related to it, so
+ *     neighbour lookup costs O(degree). Each entry also records where its reverse entry sits in the
+ *     related id's array, so that an entry can be unlinked from both ends without searching.</li>
+ * </ul>
+ * Edges are kept in insertion order until an edge is removed, at which point the last edge takes its place.
+ * Ids must be positive.
+ */
+public class RelationGraph {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] NO_NEIGHBOURS = new int[0];
+
+    /** Edges in insertion order, each encoded by {@link #encode(int, int)} in the orientation it was added. */
+    private long[] edges = new long[INITIAL_CAPACITY];
+    private int edgeCount;
+
+    /** Open-addressing table of edges in canonical orientation. An empty slot holds 0. */
+    private long[] edgeKeys = new long[INITIAL_CAPACITY * 2];
+    /** Position in {@code edges} of the edge in the same slot of {@code edgeKeys}. */
+    private int[] edgePositions = new int[INITIAL_CAPACITY * 2];
+
+    /** Open-addressing table of ids that have been related. An empty slot holds 0. */
+    private int[] vertexIds = new int[INITIAL_CAPACITY * 2];
+    /** Ids related to the id in the same slot of {@code vertexIds}, in the first {@code degrees[slot]} cells. */
+    private int[][] neighbours = new int[INITIAL_CAPACITY * 2][];
+    /** For every entry of {@code neighbours}, the position of the reverse entry in the related id's array. */
+    private int[][] twins = new int[INITIAL_CAPACITY * 2][];
+    private int[] degrees = new int[INITIAL_CAPACITY * 2];
+    private int vertexCount;
+
+    /**
+     * Adds an edge between {@code first} and {@code second}.
+     *
+     * @return True if the edge is added, false if it, or its reverse, already exists.
+     */
+    public boolean addEdge(int first, int second) {
+        assert first > 0 && second > 0;
+        long key = canonical(first, second);
+        if (findEdgeSlot(key) >= 0) {
+            return false;
+        }
+        if (edgeCount == edges.length) {
+            edges = Arrays.copyOf(edges, edges.length * 2);
+        }
+        edges[edgeCount] = encode(first, second);
+        insertEdgeKey(key, edgeCount);
+        edgeCount++;
+
+        link(first, second);
+        return true;
+    }
+
+    /**
+     * Returns true if there is an edge between {@code first} and {@code second}, in either orientation.
+     */
+    public boolean hasEdge(int first, int second) {
+        return findEdgeSlot(canonical(first, second)) >= 0;
+    }
+
+    /**
+     * Removes the edge between {@code first} and {@code second}, in either orientation.
+     *
+     * @return True if the edge is removed, false if it does not exist.
+     */
+    public boolean removeEdge(int first, int second) {
+        if (!removeEdgeRecord(first, second)) {
+            return false;
+        }
+        unlink(first, second);
+        return true;
+    }
+
+    /**
+     * Removes every edge incident to {@code id} in one batch. Each incident edge is unlinked from the other
+     * end through its recorded reverse position, so the cost is O(degree of {@code id}) regardless of the
+     * number of edges in the graph or the degrees of the related ids.
+     *
+     * @return The ids that were related to {@code id}.
+     */
+    public int[] removeVertex(int id) {
+        int slot = findVertexSlot(id);
+        if (slot < 0 || degrees[slot] == 0) {
+            return NO_NEIGHBOURS;
+        }
+        int degree = degrees[slot];
+        int[] removed = Arrays.copyOf(neighbours[slot], degree);
+        for (int i = 0; i < degree; i++) {
+            int neighbour = neighbours[slot][i];
+            removeEdgeRecord(id, neighbour);
+            if (neighbour != id) {
+                // twins[slot] is kept up to date as entries move in the neighbours' arrays
+                removeEntry(findVertexSlot(neighbour), twins[slot][i]);
+            }
+        }
+        neighbours[slot] = NO_NEIGHBOURS;
+        twins[slot] = NO_NEIGHBOURS;
+        degrees[slot] = 0;
+        return removed;
+    }
+
+    /**
+     * Returns the number of ids related to {@code id}.
+     */
+    public int degree(int id) {
+        int slot = findVertexSlot(id);
+        return slot < 0 ? 0 : degrees[slot];
+    }
+
+    /**
+     * Returns an iterator over the ids related to {@code id}.
+     * The iterator must not be used after the graph is modified.
+     */
+    public PrimitiveIterator.OfInt neighbours(int id) {
+        int slot = findVertexSlot(id);
+        int[] related = slot < 0 ? NO_NEIGHBOURS : neighbours[slot];
+        int degree = slot < 0 ? 0 : degrees[slot];
+        return new PrimitiveIterator.OfInt() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < degree;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return related[next++];
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the ids related to {@code id}.
+     */
+    public int[] neighbourArray(int id) {
+        int slot = findVertexSlot(id);
+        return slot < 0 ? NO_NEIGHBOURS : Arrays.copyOf(neighbours[slot], degrees[slot]);
+    }
+
+    /**
+     * Returns the ids reachable from {@code source} through at most {@code maxDepth} edges, excluding
+     * {@code source} itself, in breadth-first order. The traversal stops once {@code limit} ids have been
+     * reached, so the time and memory spent on a dense graph are bounded by {@code limit} and the degrees
+     * of the ids expanded.
+     */
+    public int[] idsWithinDepth(int source, int maxDepth, int limit) {
+        assert maxDepth >= 0 && limit >= 0;
+        BitSet visited = new BitSet();
+        visited.set(source);
+        int[] reached = new int[Math.min(limit, INITIAL_CAPACITY)];
+        int reachedCount = 0;
+        int levelStart = -1;
+        int levelEnd = 0;
+        for (int depth = 1; depth <= maxDepth && reachedCount < limit && levelStart < levelEnd; depth++) {
+            // ids reached in the previous level are reached[levelStart, levelEnd), or source for the first level
+            int from = levelStart;
+            levelStart = levelEnd;
+            for (int i = from; i < levelStart && reachedCount < limit; i++) {
+                int slot = findVertexSlot(i < 0 ? source : reached[i]);
+                if (slot < 0) {
+                    continue;
+                }
+                for (int j = 0; j < degrees[slot] && reachedCount < limit; j++) {
+                    int neighbour = neighbours[slot][j];
+                    if (!visited.get(neighbour)) {
+                        visited.set(neighbour);
+                        if (reachedCount == reached.length) {
+                            reached = Arrays.copyOf(reached, Math.min(limit, reached.length * 2));
+                        }
+                        reached[reachedCount++] = neighbour;
+                    }
+                }
+            }
+            levelEnd = reachedCount;
+        }
+        return Arrays.copyOf(reached, reachedCount);
+    }
+
+    /**
+     * Returns the ids on a shortest chain of edges from {@code source} to {@code target}, both included, or an
+     * empty array if they are not connected.
+     * <p>
+     * The search runs breadth-first from both ends, always expanding the smaller frontier by one level, and
+     * stops as soon as the two searches meet. Visited ids are tracked per slot of the id table rather than in
+     * a map.
+     */
+    public int[] shortestPath(int source, int target) {
+        if (source == target) {
+            return new int[] {source};
+        }
+        int sourceSlot = findVertexSlot(source);
+        int targetSlot = findVertexSlot(target);
+        if (sourceSlot < 0 || targetSlot < 0 || degrees[sourceSlot] == 0 || degrees[targetSlot] == 0) {
+            return NO_NEIGHBOURS;
+        }
+
+        // the id each visited slot was reached from, or 0 if the slot has not been visited from that end
+        int[] fromSource = new int[vertexIds.length];
+        int[] fromTarget = new int[vertexIds.length];
+        fromSource[sourceSlot] = source;
+        fromTarget[targetSlot] = target;
+        int[] sourceFrontier = {sourceSlot};
+        int[] targetFrontier = {targetSlot};
+        int sourceFrontierSize = 1;
+        int targetFrontierSize = 1;
+
+        while (sourceFrontierSize > 0 && targetFrontierSize > 0) {
+            boolean expandSource = sourceFrontierSize <= targetFrontierSize;
+            int[] frontier = expandSource ? sourceFrontier : targetFrontier;
+            int frontierSize = expandSource ? sourceFrontierSize : targetFrontierSize;
+            int[] parents = expandSource ? fromSource : fromTarget;
+            int[] otherParents = expandSource ? fromTarget : fromSource;
+
+            int[] next = new int[Math.max(INITIAL_CAPACITY, frontierSize)];
+            int nextSize = 0;
+            for (int i = 0; i < frontierSize; i++) {
+                int slot = frontier[i];
+                for (int j = 0; j < degrees[slot]; j++) {
+                    int neighbourSlot = findVertexSlot(neighbours[slot][j]);
+                    if (parents[neighbourSlot] != 0) {
+                        continue;
+                    }
+                    parents[neighbourSlot] = vertexIds[slot];
+                    if (otherParents[neighbourSlot] != 0) {
+                        return joinPath(neighbourSlot, source, target, fromSource, fromTarget);
+                    }
+                    if (nextSize == next.length) {
+                        next = Arrays.copyOf(next, next.length * 2);
+                    }
+                    next[nextSize++] = neighbourSlot;
+                }
+            }
+
+            if (expandSource) {
+                sourceFrontier = next;
+                sourceFrontierSize = nextSize;
+            } else {
+                targetFrontier = next;
+                targetFrontierSize = nextSize;
+            }
+        }
+        return NO_NEIGHBOURS;
+    }
+
+    /**
+     * Returns the path from {@code source} through the id in {@code meetingSlot} to {@code target}, following
+     * the recorded parents of each search.
+     */
+    private int[] joinPath(int meetingSlot, int source, int target, int[] fromSource, int[] fromTarget) {
+        int meeting = vertexIds[meetingSlot];
+        int sourceLength = 1;
+        for (int id = meeting; id != source; id = fromSource[findVertexSlot(id)]) {
+            sourceLength++;
+        }
+        int targetLength = 0;
+        for (int id = meeting; id != target; id = fromTarget[findVertexSlot(id)]) {
+            targetLength++;
+        }
+
+        int[] path = new int[sourceLength + targetLength];
+        int position = sourceLength - 1;
+        for (int id = meeting; id != source; id = fromSource[findVertexSlot(id)]) {
+            path[position--] = id;
+        }
+        path[0] = source;
+        position = sourceLength;
+        for (int id = meeting; id != target; ) {
+            id = fromTarget[findVertexSlot(id)];
+            path[position++] = id;
+        }
+        return path;
+    }
+
+    /**
+     * Returns the first id of the edge at {@code index}, in the orientation it was added.
+     */
+    public int getFirst(int index) {
+        checkEdgeIndex(index);
+        return (int) (edges[index] >>> 32);
+    }
+
+    /**
+     * Returns the second id of the edge at {@code index}, in the orientation it was added.
+     */
+    public int getSecond(int index) {
+        checkEdgeIndex(index);
+        return (int) edges[index];
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Removes all edges.
+     */
+    public void clear() {
+        edges = new long[INITIAL_CAPACITY];
+        edgeCount = 0;
+        edgeKeys = new long[INITIAL_CAPACITY * 2];
+        edgePositions = new int[INITIAL_CAPACITY * 2];
+        vertexIds = new int[INITIAL_CAPACITY * 2];
+        neighbours = new int[INITIAL_CAPACITY * 2][];
+        twins = new int[INITIAL_CAPACITY * 2][];
+        degrees = new int[INITIAL_CAPACITY * 2];
+        vertexCount = 0;
+    }
+
+    //// edge records
+
+    private static long encode(int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    private static long canonical(int first, int second) {
+        return first <= second ? encode(first, second) : encode(second, first);
+    }
+
+    private static int hash(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int hash(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void checkEdgeIndex(int index) {
+        if (index < 0 || index >= edgeCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Removes the edge from the edge array and the edge table, leaving the adjacency arrays untouched.
+     */
+    private boolean removeEdgeRecord(int first, int second) {
+        int slot = findEdgeSlot(canonical(first, second));
+        if (slot < 0) {
+            return false;
+        }
+        int position = edgePositions[slot];
+        deleteEdgeSlot(slot);
+
+        int last = edgeCount - 1;
+        if (position != last) {
+            long moved = edges[last];
+            edges[position] = moved;
+            edgePositions[findEdgeSlot(canonical((int) (moved >>> 32), (int) moved))] = position;
+        }
+        edgeCount--;
+        return true;
+    }
+
+    private int findEdgeSlot(long key) {
+        int mask = edgeKeys.length - 1;
+        for (int slot = hash(key, mask); edgeKeys[slot] != 0; slot = (slot + 1) & mask) {
+            if (edgeKeys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insertEdgeKey(long key, int position) {
+        if ((edgeCount + 1) * 2 > edgeKeys.length) {
+            resizeEdgeTable();
+        }
+        int mask = edgeKeys.length - 1;
+        int slot = hash(key, mask);
+        while (edgeKeys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        edgeKeys[slot] = key;
+        edgePositions[slot] = position;
+    }
+
+    private void resizeEdgeTable() {
+        long[] oldKeys = edgeKeys;
+        int[] oldPositions = edgePositions;
+        edgeKeys = new long[oldKeys.length * 2];
+        edgePositions = new int[oldKeys.length * 2];
+        int mask = edgeKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = hash(oldKeys[i], mask);
+                while (edgeKeys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                edgeKeys[slot] = oldKeys[i];
+                edgePositions[slot] = oldPositions[i];
+            }
+        }
+    }
+
+    /**
+     * Empties {@code slot} and shifts later entries of its probe sequence back, so that lookups
+     * never need tombstones.
+     */
+    private void deleteEdgeSlot(int slot) {
+        int mask = edgeKeys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (edgeKeys[next] != 0) {
+            int home = hash(edgeKeys[next], mask);
+            // move the entry into the hole if the hole lies cyclically between its home slot and its slot
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                edgeKeys[hole] = edgeKeys[next];
+                edgePositions[hole] = edgePositions[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        edgeKeys[hole] = 0;
+    }
+
+    //// adjacency arrays
+
+    private int findVertexSlot(int id) {
+        int mask = vertexIds.length - 1;
+        for (int slot = hash(id, mask); vertexIds[slot] != 0; slot = (slot + 1) & mask) {
+            if (vertexIds[slot] == id) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int findOrInsertVertexSlot(int id) {
+        int slot = findVertexSlot(id);
+        if (slot >= 0) {
+            return slot;
+        }
+        if ((vertexCount + 1) * 2 > vertexIds.length) {
+            resizeVertexTable();
+        }
+        int mask = vertexIds.length - 1;
+        slot = hash(id, mask);
+        while (vertexIds[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        vertexIds[slot] = id;
+        neighbours[slot] = NO_NEIGHBOURS;
+        twins[slot] = NO_NEIGHBOURS;
+        vertexCount++;
+        return slot;
+    }
+
+    private void resizeVertexTable() {
+        int[] oldIds = vertexIds;
+        int[][] oldNeighbours = neighbours;
+        int[][] oldTwins = twins;
+        int[] oldDegrees = degrees;
+        vertexIds = new int[oldIds.length * 2];
+        neighbours = new int[oldIds.length * 2][];
+        twins = new int[oldIds.length * 2][];
+        degrees = new int[oldIds.length * 2];
+        int mask = vertexIds.length - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != 0) {
+                int slot = hash(oldIds[i], mask);
+                while (vertexIds[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                vertexIds[slot] = oldIds[i];
+                neighbours[slot] = oldNeighbours[i];
+                twins[slot] = oldTwins[i];
+                degrees[slot] = oldDegrees[i];
+            }
+        }
+    }
+
+    /**
+     * Appends {@code neighbour} to the adjacency of the id in {@code slot}, recording {@code twin} as the
+     * position of the reverse entry.
+     *
+     * @return The position of the new entry.
+     */
+    private int appendEntry(int slot, int neighbour, int twin) {
+        int position = degrees[slot];
+        if (position == neighbours[slot].length) {
+            int capacity = Math.max(4, position * 2);
+            neighbours[slot] = Arrays.copyOf(neighbours[slot], capacity);
+            twins[slot] = Arrays.copyOf(twins[slot], capacity);
+        }
+        neighbours[slot][position] = neighbour;
+        twins[slot][position] = twin;
+        degrees[slot] = position + 1;
+        return position;
+    }
+
+    private void link(int first, int second) {
+        findOrInsertVertexSlot(first);
+        int secondSlot = findOrInsertVertexSlot(second);
+        // looked up again, as inserting the second id may have resized the table
+        int firstSlot = findVertexSlot(first);
+        if (first == second) {
+            appendEntry(firstSlot, second, degrees[firstSlot]);
+            return;
+        }
+        int firstPosition = appendEntry(firstSlot, second, degrees[secondSlot]);
+        appendEntry(secondSlot, first, firstPosition);
+    }
+
+    private void unlink(int first, int second) {
+        int firstSlot = findVertexSlot(first);
+        int[] related = neighbours[firstSlot];
+        for (int i = 0; i < degrees[firstSlot]; i++) {
+            if (related[i] == second) {
+                int twin = twins[firstSlot][i];
+                removeEntry(firstSlot, i);
+                if (first != second) {
+                    removeEntry(findVertexSlot(second), twin);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the entry at {@code position} from the adjacency of the id in {@code slot} by moving the last
+     * entry into its place, and points the reverse entry of the moved entry at its new position.
+     */
+    private void removeEntry(int slot, int position) {
+        int last = degrees[slot] - 1;
+        if (position != last) {
+            int moved = neighbours[slot][last];
+            int movedTwin = twins[slot][last];
+            neighbours[slot][position] = moved;
+            if (moved == vertexIds[slot]) {
+                // a relation of an id with itself is its own reverse entry
+                twins[slot][position] = position;
+            } else {
+                twins[slot][position] = movedTwin;
+                twins[findVertexSlot(moved)][movedTwin] = position;
+            }
+        }
+        degrees[slot] = last;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void getKeywords_duplicatesAndEmptyKeywords_keptOnce() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("Alice", "", "bob", "ALICE"));
+        assertEquals(List.of("alice", "bob"), matcher.getKeywords());
+        assertTrue(new KeywordMatcher(List.of("")).isEmpty());
+    }
+
+    @Test
+    public void occursIn() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("he", "she", "hers", "ali"));
+
+        // keyword in the middle of a word, ignoring case
+        assertTrue(matcher.occursIn("ALICE"));
+        assertTrue(matcher.occursIn("usher"));
+        assertTrue(matcher.occursIn("xxsHExx"));
+
+        // keywords overlapping with a failed partial match
+        assertTrue(new KeywordMatcher(List.of("abcd", "bce")).occursIn("abce"));
+
+        assertFalse(matcher.occursIn(""));
+        assertFalse(matcher.occursIn("al ice"));
+        assertFalse(new KeywordMatcher(List.of()).occursIn("anything"));
+    }
+
+    @Test
+    public void matchesWhole() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("client", "employee"));
+        assertTrue(matcher.matchesWhole("Client"));
+        assertTrue(matcher.matchesWhole("EMPLOYEE"));
+        assertFalse(matcher.matchesWhole("clien"));
+        assertFalse(matcher.matchesWhole("clients"));
+        assertFalse(matcher.matchesWhole(""));
+    }
+
+    @Test
+    public void isPrefixedByAny() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("9435", "87"));
+        assertTrue(matcher.isPrefixedByAny("94351253"));
+        assertTrue(matcher.isPrefixedByAny("87"));
+        assertFalse(matcher.isPrefixedByAny("943"));
+        assertFalse(matcher.isPrefixedByAny("98765432"));
+        assertFalse(matcher.isPrefixedByAny("19435"));
+    }
+
+    @Test
+    public void wholeWordMatches() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("good", "buyer", "od"));
+        assertEquals(0b011, matcher.wholeWordMatches("Good\tBUYER"));
+        assertEquals(0b001, matcher.wholeWordMatches("good buyers"));
+        assertEquals(0b100, matcher.wholeWordMatches("go od"));
+        assertEquals(0, matcher.wholeWordMatches("goodbuyer"));
+    }
+
+    @Test
+    public void wholeWordMatchSet_manyKeywords_reportsAllKeywords() {
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keywords.add("w" + i);
+        }
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+        BitSet expected = new BitSet();
+        expected.set(3);
+        expected.set(99);
+        assertEquals(expected, matcher.wholeWordMatchSet("w3 w99 w100"));
+        assertEquals(1L << 3, matcher.wholeWordMatches("w3 w99 w100"));
+    }
+
+    @Test
+    public void randomKeywords_matchStringUtil() {
+        Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            int keywordCount = 1 + random.nextInt(6);
+            for (int i = 0; i < keywordCount; i++) {
+                keywords.add(randomText(random, 1 + random.nextInt(3)));
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+            String text = randomText(random, random.nextInt(20));
+            boolean expected = keywords.stream()
+                    .anyMatch(keyword -> StringUtil.hasPartialMatchIgnoreCase(keyword, text));
+            assertEquals(expected, matcher.occursIn(text));
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("abAB".charAt(random.nextInt(4)));
+        }
+        return text.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -218,6 +219,39 @@ public class StringUtilTest {
         assertTrue(StringUtil.hasPartialMatchIgnoreCase("bbB", "AAA bBb ccc  bbb"));
     }
 
+    //---------------- Tests for damerauLevenshteinDistance --------------------------------------
+
+    @Test
+    public void damerauLevenshteinDistance() {
+        // EP: equal strings
+        assertEquals(0, StringUtil.damerauLevenshteinDistance("alice", "alice", 2));
+        assertEquals(0, StringUtil.damerauLevenshteinDistance("", "", 0));
+
+        // EP: single edits
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("alice", "alcie", 2)); // transposition
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("alice", "alise", 2)); // substitution
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("alice", "alie", 2)); // deletion
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("alice", "allice", 2)); // insertion
+
+        // EP: several edits
+        assertEquals(2, StringUtil.damerauLevenshteinDistance("alice", "lacie", 2));
+        assertEquals(3, StringUtil.damerauLevenshteinDistance("kitten", "sitting", 3));
+
+        // EP: distance beyond the bound
+        assertEquals(3, StringUtil.damerauLevenshteinDistance("alice", "bob", 2));
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("alice", "alice pauline", 0));
+
+        // EP: case sensitive
+        assertEquals(1, StringUtil.damerauLevenshteinDistance("Alice", "alice", 1));
+    }
+
+    @Test
+    public void damerauLevenshteinDistance_invalidArguments_throwsExceptions() {
+        assertThrows(NullPointerException.class, () -> StringUtil.damerauLevenshteinDistance(null, "a", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.damerauLevenshteinDistance("a", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.damerauLevenshteinDistance("a", "b", -1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Id;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.filter.NetConnectPredicate;
 import seedu.address.model.util.IdTuple;
 import seedu.address.model.util.RelatedList;
@@ -207,11 +209,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void rankPersons(Comparator<Person> relevance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean exportCsv(String filename) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int countPersons(NetConnectPredicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersons(NetConnectPredicate<Person> predicate, int offset, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortPersons(SortField field) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String printFilters() {
             throw new AssertionError("This method should not be called.");
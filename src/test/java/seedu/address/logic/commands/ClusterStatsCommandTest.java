@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalIds.ID_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIds.ID_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIds.ID_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalNetConnect;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.IdTuple;
+
+public class ClusterStatsCommandTest {
+    private final Model model = new ModelManager(getTypicalNetConnect(), new UserPrefs());
+
+    @Test
+    public void execute_noRelations_showsAllPersonsUnrelated() {
+        CommandResult commandResult = new ClusterStatsCommand().execute(model);
+        assertEquals(ClusterStatsCommand.MESSAGE_HEADER + "\n"
+                + String.format(ClusterStatsCommand.MESSAGE_UNRELATED, 8), commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_clusters_showsSizeDistribution() {
+        model.addRelatedIdTuple(new IdTuple(ID_FIRST_PERSON, ID_SECOND_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_SECOND_PERSON, ID_THIRD_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ELLE.getId(), FIONA.getId()));
+        CommandResult commandResult = new ClusterStatsCommand().execute(model);
+        assertEquals(ClusterStatsCommand.MESSAGE_HEADER + "\n"
+                + String.format(ClusterStatsCommand.MESSAGE_CLUSTER_SIZE, 2, 1) + "\n"
+                + String.format(ClusterStatsCommand.MESSAGE_CLUSTER_SIZE, 3, 1) + "\n"
+                + String.format(ClusterStatsCommand.MESSAGE_UNRELATED, 3), commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterDelete_updatesDistribution() {
+        model.addRelatedIdTuple(new IdTuple(ID_FIRST_PERSON, ID_SECOND_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_SECOND_PERSON, ID_THIRD_PERSON));
+        model.deletePerson(model.getPersonById(ID_SECOND_PERSON));
+        CommandResult commandResult = new ClusterStatsCommand().execute(model);
+        assertEquals(ClusterStatsCommand.MESSAGE_HEADER + "\n"
+                + String.format(ClusterStatsCommand.MESSAGE_UNRELATED, 7), commandResult.getFeedbackToUser());
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalNetConnect;
@@ -19,6 +21,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.filter.NameContainsKeywordsPredicate;
+import seedu.address.model.person.filter.NameFuzzyMatchesKeywordsPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for
@@ -77,6 +80,22 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyName_closestNamesFirst() {
+        // Elle Meyer matches "Elle" exactly, while Benson Meier and Daniel Meier are one typo from "Meir"
+        NameFuzzyMatchesKeywordsPredicate predicate = new NameFuzzyMatchesKeywordsPredicate(List.of("Elle", "Meir"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.stackFilters(predicate);
+        expectedModel.rankPersons(predicate.relevanceComparator());
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3)
+                + "\n" + expectedModel.printFilters();
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        model.clearFilter();
+        assertEquals(getTypicalNetConnect().getPersonList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("keyword"));
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIds.ID_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIds.ID_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIds.ID_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalNetConnect;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Id;
+import seedu.address.model.util.IdTuple;
+
+public class ShowClusterCommandTest {
+    private final Model model = new ModelManager(getTypicalNetConnect(), new UserPrefs());
+
+    @Test
+    public void execute_relatedPersons_showsCluster() throws CommandException {
+        model.addRelatedIdTuple(new IdTuple(ID_FIRST_PERSON, ID_SECOND_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_SECOND_PERSON, ID_THIRD_PERSON));
+        CommandResult commandResult = new ShowClusterCommand(ID_THIRD_PERSON).execute(model);
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3), commandResult.getFeedbackToUser());
+        assertEquals(List.of(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_afterUnrelate_showsSplitCluster() throws CommandException {
+        model.addRelatedIdTuple(new IdTuple(ID_FIRST_PERSON, ID_SECOND_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_SECOND_PERSON, ID_THIRD_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_THIRD_PERSON, ELLE.getId()));
+        model.removeRelatedIdTuple(new IdTuple(ID_SECOND_PERSON, ID_THIRD_PERSON));
+        new ShowClusterCommand(ELLE.getId()).execute(model);
+        assertEquals(List.of(DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unrelatedPerson_showsPerson() throws CommandException {
+        new ShowClusterCommand(ID_FIRST_PERSON).execute(model);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_invalidId_throwsCommandException() {
+        Model expectedModel = new ModelManager(model.getNetConnect(), new UserPrefs());
+        assertCommandFailure(new ShowClusterCommand(Id.generateTempId(100)), model,
+                String.format(Messages.MESSAGE_INVALID_PERSON_ID, 100), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ShowClusterCommand firstCommand = new ShowClusterCommand(ID_FIRST_PERSON);
+
+        // same object -> returns true
+        assertEquals(firstCommand, firstCommand);
+
+        // same values -> returns true
+        assertEquals(firstCommand, new ShowClusterCommand(ID_FIRST_PERSON));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different person -> returns false
+        assertFalse(firstCommand.equals(new ShowClusterCommand(ID_SECOND_PERSON)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ShowClusterCommand command = new ShowClusterCommand(ID_FIRST_PERSON);
+        String expectedString = ShowClusterCommand.class.getCanonicalName() + "{id=" + ID_FIRST_PERSON + "}";
+        assertEquals(expectedString, command.toString());
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIds.ID_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIds.ID_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIds.ID_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalNetConnect;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Id;
+import seedu.address.model.util.IdTuple;
+
+public class ShowPathCommandTest {
+    private final Model model = new ModelManager(getTypicalNetConnect(), new UserPrefs());
+
+    @Test
+    public void execute_connectedPersons_showsShortestPath() throws CommandException {
+        // ALICE - BENSON - DANIEL - ELLE, with a shortcut ALICE - FIONA - ELLE
+        model.addRelatedIdTuple(new IdTuple(ID_FIRST_PERSON, ID_SECOND_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_SECOND_PERSON, ID_THIRD_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_THIRD_PERSON, ELLE.getId()));
+        model.addRelatedIdTuple(new IdTuple(ID_FIRST_PERSON, FIONA.getId()));
+        model.addRelatedIdTuple(new IdTuple(FIONA.getId(), ELLE.getId()));
+
+        CommandResult commandResult = new ShowPathCommand(ID_FIRST_PERSON, ELLE.getId()).execute(model);
+        assertEquals(String.format(ShowPathCommand.MESSAGE_PATH_FOUND, 2, "1 -> 5 -> 4"),
+                commandResult.getFeedbackToUser());
+        assertEquals(List.of(ALICE, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_samePerson_showsPerson() throws CommandException {
+        new ShowPathCommand(ID_THIRD_PERSON, ID_THIRD_PERSON).execute(model);
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unconnectedPersons_throwsCommandException() {
+        model.addRelatedIdTuple(new IdTuple(ID_FIRST_PERSON, ID_SECOND_PERSON));
+        Model expectedModel = new ModelManager(model.getNetConnect(), new UserPrefs());
+        assertCommandFailure(new ShowPathCommand(ID_FIRST_PERSON, ID_THIRD_PERSON), model,
+                String.format(ShowPathCommand.MESSAGE_NO_PATH, 1, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidId_throwsCommandException() {
+        Model expectedModel = new ModelManager(model.getNetConnect(), new UserPrefs());
+        assertCommandFailure(new ShowPathCommand(ID_FIRST_PERSON, Id.generateTempId(100)), model,
+                String.format(Messages.MESSAGE_INVALID_PERSON_ID, 100), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ShowPathCommand firstCommand = new ShowPathCommand(ID_FIRST_PERSON, ID_SECOND_PERSON);
+
+        // same object -> returns true
+        assertEquals(firstCommand, firstCommand);
+
+        // same values -> returns true
+        assertEquals(firstCommand, new ShowPathCommand(ID_FIRST_PERSON, ID_SECOND_PERSON));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different persons -> returns false
+        assertFalse(firstCommand.equals(new ShowPathCommand(ID_SECOND_PERSON, ID_FIRST_PERSON)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ShowPathCommand command = new ShowPathCommand(ID_FIRST_PERSON, ID_SECOND_PERSON);
+        String expectedString = ShowPathCommand.class.getCanonicalName() + "{firstPersonId=" + ID_FIRST_PERSON
+                + ", secondPersonId=" + ID_SECOND_PERSON + "}";
+        assertEquals(expectedString, command.toString());
+    }
+}
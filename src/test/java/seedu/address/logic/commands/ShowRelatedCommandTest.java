@@ -4,8 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.TypicalIds.ID_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIds.ID_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIds.ID_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalNetConnect;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
@@ -13,6 +19,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.util.IdTuple;
 
 public class ShowRelatedCommandTest {
     private final Model model = new ModelManager(getTypicalNetConnect(), new UserPrefs());
@@ -32,6 +39,37 @@ public class ShowRelatedCommandTest {
                 commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_depthTwo_showsPersonsWithinTwoRelations() throws CommandException {
+        relateChain();
+        new ShowRelatedCommand(ID_FIRST_PERSON, 2).execute(model);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_depthBeyondChain_showsWholeChain() throws CommandException {
+        relateChain();
+        new ShowRelatedCommand(ID_FIRST_PERSON, 10).execute(model);
+        assertEquals(List.of(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_frontierCapReached_stopsSearch() throws CommandException {
+        relateChain();
+        CommandResult commandResult = new ShowRelatedCommand(ID_FIRST_PERSON, 10, 2).execute(model);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(ShowRelatedCommand.MESSAGE_LIMIT_REACHED, 2), commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_exactlyFrontierCapReachable_doesNotReportLimit() throws CommandException {
+        relateChain();
+        CommandResult commandResult = new ShowRelatedCommand(ID_FIRST_PERSON, 10, 3).execute(model);
+        assertEquals(List.of(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3), commandResult.getFeedbackToUser());
+    }
+
     @Test
     public void equals() {
         ShowRelatedCommand showRelatedFirstCommand = new ShowRelatedCommand(ID_FIRST_PERSON);
@@ -52,13 +90,30 @@ public class ShowRelatedCommandTest {
 
         // different person -> returns false
         assertFalse(showRelatedFirstCommand.equals(showRelatedSecondCommand));
+
+        // different depth -> returns false
+        assertFalse(showRelatedFirstCommand.equals(new ShowRelatedCommand(ID_FIRST_PERSON, 2)));
+
+        // different frontier cap -> returns false
+        assertFalse(showRelatedFirstCommand.equals(new ShowRelatedCommand(ID_FIRST_PERSON, 1, 5)));
     }
 
     @Test
     public void toStringMethod() {
         ShowRelatedCommand showRelatedCommand = new ShowRelatedCommand(ID_FIRST_PERSON);
-        String expectedString = ShowRelatedCommand.class.getCanonicalName() + "{id=" + ID_FIRST_PERSON + "}";
+        String expectedString = ShowRelatedCommand.class.getCanonicalName() + "{id=" + ID_FIRST_PERSON
+                + ", depth=" + ShowRelatedCommand.DEFAULT_DEPTH
+                + ", frontierCap=" + ShowRelatedCommand.DEFAULT_FRONTIER_CAP + "}";
         assertEquals(expectedString, showRelatedCommand.toString());
     }
 
+    /**
+     * Relates ALICE - BENSON - DANIEL - ELLE in a chain.
+     */
+    private void relateChain() {
+        model.addRelatedIdTuple(new IdTuple(ID_FIRST_PERSON, ID_SECOND_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_SECOND_PERSON, ID_THIRD_PERSON));
+        model.addRelatedIdTuple(new IdTuple(ID_THIRD_PERSON, ELLE.getId()));
+    }
+
 }
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalNetConnect;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
+
+public class SortCommandTest {
+
+    private final Model model = new ModelManager(getTypicalNetConnect(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalNetConnect(), new UserPrefs());
+
+    @Test
+    public void execute_byName_sortsShownPersons() {
+        expectedModel.sortPersons(SortField.NAME);
+        assertCommandSuccess(new SortCommand(SortField.NAME), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "name"), expectedModel);
+
+        List<Person> expectedOrder = new ArrayList<>(model.getFilteredPersonList());
+        expectedOrder.sort(Comparator.comparing(person -> person.getName().fullName.toLowerCase()));
+        assertEquals(expectedOrder, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_byId_restoresIdOrder() {
+        model.sortPersons(SortField.NAME);
+        assertCommandSuccess(new SortCommand(SortField.ID), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "id"), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(SortField.NAME);
+
+        // same object -> returns true
+        assertTrue(sortByName.equals(sortByName));
+
+        // same values -> returns true
+        assertTrue(sortByName.equals(new SortCommand(SortField.NAME)));
+
+        // different types -> returns false
+        assertFalse(sortByName.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByName.equals(null));
+
+        // different field -> returns false
+        assertFalse(sortByName.equals(new SortCommand(SortField.ROLE)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(SortField.NAME);
+        assertEquals(SortCommand.class.getCanonicalName() + "{field=" + SortField.NAME + "}", sortCommand.toString());
+    }
+}
@@ -13,11 +13,16 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
+import seedu.address.model.person.Products;
+import seedu.address.model.person.Skills;
+import seedu.address.model.person.filter.EmailMatchesKeywordsPredicate;
 import seedu.address.model.person.filter.NameContainsKeywordsPredicate;
+import seedu.address.model.person.filter.NameFuzzyMatchesKeywordsPredicate;
 import seedu.address.model.person.filter.PhoneMatchesDigitsPredicate;
+import seedu.address.model.person.filter.ProductsContainsKeywordsPredicate;
 import seedu.address.model.person.filter.RemarkContainsKeywordsPredicate;
 import seedu.address.model.person.filter.RoleMatchesKeywordsPredicate;
+import seedu.address.model.person.filter.SkillsContainsKeywordsPredicate;
 import seedu.address.model.person.filter.TagsContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -41,6 +46,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n n/Alice \n \t n/Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyNames_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("Alcie", "Bob")));
+        assertParseSuccess(parser, " n/Alcie~ n/Bob ~", expectedFindCommand);
+
+        // some names without the fuzzy marker
+        assertParseFailure(parser, " n/Alcie~ n/Bob", FindCommandParser.MESSAGE_MIXED_FUZZY_NAMES);
+
+        // invalid fuzzy names
+        assertParseFailure(parser, " n/~", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/Al~ce~", Name.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_validPhones_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -50,6 +69,10 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n p/12345678 \n \t p/91234567  \t", expectedFindCommand);
+
+        // phone prefixes
+        assertParseSuccess(parser, " p/9* p/12345678*",
+                new FindCommand(new PhoneMatchesDigitsPredicate(Arrays.asList("9*", "12345678*"))));
     }
 
     @Test
@@ -99,6 +122,50 @@ public class FindCommandParserTest {
                 " \n r/first \n   \t r/second  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validEmails_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new EmailMatchesKeywordsPredicate(
+                Arrays.asList("alice@example.com", "bob@", "@example.org")));
+        assertParseSuccess(parser, " e/alice@example.com \n e/bob@ \t e/@example.org", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidEmails_throwsParseException() {
+        String message = EmailMatchesKeywordsPredicate.MESSAGE_CONSTRAINTS;
+        assertParseFailure(parser, " e/", message);
+        assertParseFailure(parser, " e/alice", message);
+        assertParseFailure(parser, " e/@example.org e/@", message);
+        assertParseFailure(parser, " e/alice@ t/friends", Messages.MESSAGE_NON_UNIQUE_FIELDS);
+    }
+
+    @Test
+    public void parse_validSkillsAndProducts_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new SkillsContainsKeywordsPredicate(
+                Arrays.asList("Java", "Public Speaking")));
+        assertParseSuccess(parser, " skills/Java \n skills/Public Speaking \t", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(new ProductsContainsKeywordsPredicate(
+                Arrays.asList("Office Supplies", "pens")));
+        assertParseSuccess(parser, " prod/Office Supplies \n prod/pens", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidSkillsAndProducts_throwsParseException() {
+        assertParseFailure(parser, " skills/", Skills.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " skills/Java skills/J@va", Skills.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " prod/", Products.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " prod/pens prod/pen$", Products.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " skills/Java prod/pens", Messages.MESSAGE_NON_UNIQUE_FIELDS);
+    }
+
+    @Test
+    public void parse_query_returnsFindCommand() throws Exception {
+        FindCommand expectedFindCommand = new FindCommand(new FindQueryParser().parse("n/Alice OR NOT t/friends"));
+        assertParseSuccess(parser, " q/n/Alice OR NOT t/friends", expectedFindCommand);
+        assertParseSuccess(parser, " \t q/ n/Alice OR NOT t/friends ", expectedFindCommand);
+        assertParseFailure(parser, " q/", FindQueryParser.MESSAGE_EMPTY_QUERY);
+    }
+
     @Test
     public void parse_invalidNames_throwsParseException() {
         // empty name
@@ -113,15 +180,22 @@ public class FindCommandParserTest {
 
     @Test
     public void parse_invalidPhones_throwsParseException() {
+        String message = PhoneMatchesDigitsPredicate.MESSAGE_CONSTRAINTS;
+
         // empty phones
-        assertParseFailure(parser, " p/", String.format(Phone.MESSAGE_CONSTRAINTS));
-        assertParseFailure(parser, " p/ p/ p/", String.format(Phone.MESSAGE_CONSTRAINTS));
+        assertParseFailure(parser, " p/", message);
+        assertParseFailure(parser, " p/ p/ p/", message);
 
         // invalid phones format
-        assertParseFailure(parser, " p/12", String.format(Phone.MESSAGE_CONSTRAINTS));
-        assertParseFailure(parser, " p/123a45", String.format(Phone.MESSAGE_CONSTRAINTS));
-        assertParseFailure(parser, " p/1234a56 p/91234567", String.format(Phone.MESSAGE_CONSTRAINTS));
-        assertParseFailure(parser, " p/91234567 p/12", String.format(Phone.MESSAGE_CONSTRAINTS));
+        assertParseFailure(parser, " p/12", message);
+        assertParseFailure(parser, " p/123a45", message);
+        assertParseFailure(parser, " p/1234a56 p/91234567", message);
+        assertParseFailure(parser, " p/91234567 p/12", message);
+
+        // invalid phone prefixes
+        assertParseFailure(parser, " p/*", message);
+        assertParseFailure(parser, " p/123456789*", message);
+        assertParseFailure(parser, " p/12*34", message);
     }
 
     @Test
@@ -0,0 +1,90 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.filter.AndPredicate;
+import seedu.address.model.person.filter.NameContainsKeywordsPredicate;
+import seedu.address.model.person.filter.NetConnectPredicate;
+import seedu.address.model.person.filter.NotPredicate;
+import seedu.address.model.person.filter.OrPredicate;
+import seedu.address.model.person.filter.RemarkContainsKeywordsPredicate;
+import seedu.address.model.person.filter.RoleMatchesKeywordsPredicate;
+import seedu.address.model.person.filter.TagsContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FindQueryParserTest {
+
+    private static final NetConnectPredicate<Person> NAME_ALEX =
+            new NameContainsKeywordsPredicate(List.of("alex"));
+    private static final NetConnectPredicate<Person> TAG_FRIENDS =
+            new TagsContainsKeywordsPredicate(List.of("friends"));
+    private static final NetConnectPredicate<Person> ROLE_CLIENT =
+            new RoleMatchesKeywordsPredicate(List.of("client"));
+
+    private final FindQueryParser parser = new FindQueryParser();
+
+    @Test
+    public void parse_singleField() throws Exception {
+        assertEquals(NAME_ALEX, parser.parse("n/alex"));
+        assertEquals(NAME_ALEX, parser.parse(" ( n/alex ) "));
+        assertEquals(new RemarkContainsKeywordsPredicate(List.of("has a dog")), parser.parse("r/has a dog"));
+        assertEquals(new RemarkContainsKeywordsPredicate(List.of("")), parser.parse("r/"));
+    }
+
+    @Test
+    public void parse_operators_respectPrecedence() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        NetConnectPredicate<Person> expected = new OrPredicate(List.of(
+                NAME_ALEX, new AndPredicate(List.of(TAG_FRIENDS, new NotPredicate(ROLE_CLIENT)))));
+        assertEquals(expected, parser.parse("n/alex OR t/friends AND NOT role/client"));
+
+        // parentheses override precedence
+        expected = new AndPredicate(List.of(
+                new OrPredicate(List.of(NAME_ALEX, TAG_FRIENDS)), new NotPredicate(ROLE_CLIENT)));
+        assertEquals(expected, parser.parse("(n/alex OR t/friends) AND NOT role/client"));
+
+        // negated group
+        expected = new NotPredicate(new OrPredicate(List.of(NAME_ALEX, TAG_FRIENDS)));
+        assertEquals(expected, parser.parse("NOT (n/alex OR t/friends)"));
+    }
+
+    @Test
+    public void parse_adjacentFields_combinedWithAnd() throws Exception {
+        NetConnectPredicate<Person> expected = new AndPredicate(List.of(NAME_ALEX, TAG_FRIENDS, ROLE_CLIENT));
+        assertEquals(expected, parser.parse("n/alex t/friends AND role/client"));
+    }
+
+    @Test
+    public void parse_lowerCaseOperator_partOfValue() throws Exception {
+        NetConnectPredicate<Person> expected = new AndPredicate(List.of(
+                new RemarkContainsKeywordsPredicate(List.of("not sure or maybe")), TAG_FRIENDS));
+        assertEquals(expected, parser.parse("r/not sure or maybe t/friends"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_EMPTY_QUERY, () -> parser.parse("  "));
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_UNMATCHED_PARENTHESIS, ()
+            -> parser.parse("(n/alex OR t/friends"));
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_UNMATCHED_PARENTHESIS, ()
+            -> parser.parse("n/alex)"));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_EXPECTED_FIELD, "alex"), ()
+            -> parser.parse("alex"));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_EXPECTED_FIELD, "end of query"), ()
+            -> parser.parse("n/alex AND"));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_EXPECTED_FIELD, "OR"), ()
+            -> parser.parse("NOT OR t/friends"));
+    }
+
+    @Test
+    public void parse_invalidFieldValue_throwsParseException() {
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () -> parser.parse("n/alex OR t/fri@nds"));
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClusterStatsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
@@ -26,10 +27,14 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RelateCommand;
+import seedu.address.logic.commands.ShowClusterCommand;
+import seedu.address.logic.commands.ShowPathCommand;
 import seedu.address.logic.commands.ShowRelatedCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UnrelateCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.filter.NameContainsKeywordsPredicate;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -94,12 +99,32 @@ public class NetConnectParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(SortField.NAME), parser.parseCommand(SortCommand.COMMAND_WORD + " name"));
+    }
+
     @Test
     public void parseCommand_showRelated() throws Exception {
         assertTrue(
                 parser.parseCommand(ShowRelatedCommand.COMMAND_WORD + " i/3") instanceof ShowRelatedCommand);
     }
 
+    @Test
+    public void parseCommand_showPath() throws Exception {
+        assertTrue(parser.parseCommand(ShowPathCommand.COMMAND_WORD + " i/3 i/4") instanceof ShowPathCommand);
+    }
+
+    @Test
+    public void parseCommand_showCluster() throws Exception {
+        assertTrue(parser.parseCommand(ShowClusterCommand.COMMAND_WORD + " i/3") instanceof ShowClusterCommand);
+    }
+
+    @Test
+    public void parseCommand_clusterStats() throws Exception {
+        assertTrue(parser.parseCommand(ClusterStatsCommand.COMMAND_WORD) instanceof ClusterStatsCommand);
+    }
+
     @Test
     public void parseCommand_relate() throws Exception {
         assertTrue(parser.parseCommand("relate i/1 i/2") instanceof RelateCommand);
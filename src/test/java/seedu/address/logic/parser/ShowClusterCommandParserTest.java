@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIds.ID_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ShowClusterCommand;
+
+public class ShowClusterCommandParserTest {
+    private final ShowClusterCommandParser parser = new ShowClusterCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsShowClusterCommand() {
+        assertParseSuccess(parser, " i/1", new ShowClusterCommand(ID_FIRST_PERSON));
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " i/ \n 1 \n \t", new ShowClusterCommand(ID_FIRST_PERSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no id
+        assertParseFailure(
+                parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowClusterCommand.MESSAGE_USAGE));
+
+        // non integer
+        assertParseFailure(
+                parser, " i/one", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowClusterCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIds.ID_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIds.ID_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ShowPathCommand;
+
+public class ShowPathCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowPathCommand.MESSAGE_USAGE);
+
+    private final ShowPathCommandParser parser = new ShowPathCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsShowPathCommand() {
+        assertParseSuccess(parser, " i/1 i/2", new ShowPathCommand(ID_FIRST_PERSON, ID_SECOND_PERSON));
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " i/ 1 \n i/2 \t", new ShowPathCommand(ID_FIRST_PERSON, ID_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no ids
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // one id
+        assertParseFailure(parser, " i/1", MESSAGE_INVALID_FORMAT);
+
+        // three ids
+        assertParseFailure(parser, " i/1 i/2 i/3", MESSAGE_INVALID_FORMAT);
+
+        // non integer id
+        assertParseFailure(parser, " i/1 i/two", MESSAGE_INVALID_FORMAT);
+
+        // preamble
+        assertParseFailure(parser, " 1 i/1 i/2", MESSAGE_INVALID_FORMAT);
+    }
+}
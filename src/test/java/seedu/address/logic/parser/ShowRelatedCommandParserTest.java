@@ -19,6 +19,14 @@ public class ShowRelatedCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " i/ \n 1 \n \t", new ShowRelatedCommand(ID_FIRST_PERSON));
+
+        // with depth
+        assertParseSuccess(parser, " i/1 depth/3", new ShowRelatedCommand(ID_FIRST_PERSON, 3));
+
+        // with limit
+        assertParseSuccess(parser, " i/1 limit/50", new ShowRelatedCommand(ID_FIRST_PERSON,
+                ShowRelatedCommand.DEFAULT_DEPTH, 50));
+        assertParseSuccess(parser, " i/1 limit/50 depth/3", new ShowRelatedCommand(ID_FIRST_PERSON, 3, 50));
     }
 
     @Test
@@ -34,5 +42,21 @@ public class ShowRelatedCommandParserTest {
         // non integer
         assertParseFailure(
                 parser, "i/one", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowRelatedCommand.MESSAGE_USAGE));
+
+        // non positive depth
+        assertParseFailure(parser, " i/1 depth/0",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowRelatedCommand.MESSAGE_USAGE));
+
+        // non integer depth
+        assertParseFailure(parser, " i/1 depth/two",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowRelatedCommand.MESSAGE_USAGE));
+
+        // non positive limit
+        assertParseFailure(parser, " i/1 limit/0",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowRelatedCommand.MESSAGE_USAGE));
+
+        // non integer limit
+        assertParseFailure(parser, " i/1 limit/all",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowRelatedCommand.MESSAGE_USAGE));
     }
 }
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.SortField;
+
+public class SortCommandParserTest {
+    private final SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " name", new SortCommand(SortField.NAME));
+        assertParseSuccess(parser, " department", new SortCommand(SortField.DEPARTMENT));
+
+        // ignores case and surrounding whitespace
+        assertParseSuccess(parser, " \n JOB \t", new SortCommand(SortField.JOB_TITLE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no field
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // unknown field
+        assertParseFailure(parser, " address", SortField.MESSAGE_CONSTRAINTS);
+
+        // more than one field
+        assertParseFailure(parser, " name role", SortField.MESSAGE_CONSTRAINTS);
+    }
+}
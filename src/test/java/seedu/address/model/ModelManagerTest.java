@@ -8,16 +8,26 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIds.ID_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.utils.CsvExporter;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.filter.NameContainsKeywordsPredicate;
+import seedu.address.model.person.filter.NetConnectPredicate;
+import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.NetConnectBuilder;
 
 public class ModelManagerTest {
@@ -122,6 +132,205 @@ public class ModelManagerTest {
         assertEquals(ALICE, modelManager.getPersonById(ALICE.getId()));
     }
 
+    @Test
+    public void stackFilters_indexedPredicate_showsMatchingPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.stackFilters(new NameContainsKeywordsPredicate(Arrays.asList("meier", "ALI")));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        modelManager.stackFilters(new NameContainsKeywordsPredicate(Arrays.asList("ben")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_afterIndexedFilter_testsEditedPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.stackFilters(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+        Person editedBenson = new ClientBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void stackFilters_filteredList_testsOnlyShownPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.stackFilters(new NameContainsKeywordsPredicate(Arrays.asList("ben")));
+        List<Person> tested = new ArrayList<>();
+        modelManager.stackFilters(NetConnectPredicate.box(person -> tested.add(person)));
+        assertEquals(Arrays.asList(BENSON), tested);
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // later changes to the persons are still tested against every predicate
+        Person editedAlice = new ClientBuilder(ALICE).withName("Alice Ben").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void stackFilters_repeatedFilter_reusesResultUntilPersonsChange() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<Person> tested = new ArrayList<>();
+        NetConnectPredicate<Person> predicate = NetConnectPredicate.box(person -> tested.add(person)
+                && person.equals(BENSON));
+        modelManager.stackFilters(predicate);
+        assertEquals(2, tested.size());
+
+        // switching back to the same filter does not test the persons again
+        modelManager.clearFilter();
+        modelManager.stackFilters(predicate);
+        assertEquals(2, tested.size());
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // once the persons change, the filter is tested again
+        modelManager.clearFilter();
+        modelManager.deletePerson(ALICE);
+        modelManager.stackFilters(predicate);
+        assertEquals(3, tested.size());
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void countPersons_doesNotChangeFilteredList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.stackFilters(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+        assertEquals(2, modelManager.countPersons(new NameContainsKeywordsPredicate(Arrays.asList("e"))));
+        assertEquals(0, modelManager.countPersons(NetConnectPredicate.box(person -> false)));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPersons_returnsPageInIdOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(DANIEL);
+        NetConnectPredicate<Person> everyone = NetConnectPredicate.box(person -> true);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), modelManager.getPersons(everyone, 0, 10));
+        assertEquals(Arrays.asList(BENSON), modelManager.getPersons(everyone, 1, 1));
+        assertEquals(Arrays.asList(), modelManager.getPersons(everyone, 3, 1));
+        assertEquals(Arrays.asList(), modelManager.getPersons(everyone, 0, 0));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getPersons(
+                new NameContainsKeywordsPredicate(Arrays.asList("meier")), 0, 5));
+        assertEquals(Arrays.asList(BENSON, ALICE, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPersons_stopsTestingOnceThePageIsFull() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(DANIEL);
+        List<Person> tested = new ArrayList<>();
+        NetConnectPredicate<Person> everyone = NetConnectPredicate.box(person -> tested.add(person));
+        assertEquals(Arrays.asList(BENSON), modelManager.getPersons(everyone, 1, 1));
+        assertEquals(Arrays.asList(ALICE, BENSON), tested);
+    }
+
+    @Test
+    public void getPersons_negativeOffsetOrLimit_throwsIllegalArgumentException() {
+        NetConnectPredicate<Person> everyone = NetConnectPredicate.box(person -> true);
+        assertThrows(IllegalArgumentException.class, () -> modelManager.getPersons(everyone, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> modelManager.getPersons(everyone, 0, -1));
+    }
+
+    @Test
+    public void sortPersons_keepsOrderAsPersonsAndFilterChange() {
+        Person carl = new ClientBuilder().withId(1).withName("Carl").build();
+        Person abe = new ClientBuilder().withId(2).withName("abe").build();
+        Person bea = new ClientBuilder().withId(3).withName("Bea").build();
+        modelManager.addPerson(carl);
+        modelManager.addPerson(abe);
+        modelManager.sortPersons(SortField.NAME);
+        assertEquals(Arrays.asList(abe, carl), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(bea);
+        assertEquals(Arrays.asList(abe, bea, carl), modelManager.getFilteredPersonList());
+
+        Person renamedAbe = new ClientBuilder().withId(2).withName("Dan").build();
+        modelManager.setPerson(abe, renamedAbe);
+        assertEquals(Arrays.asList(bea, carl, renamedAbe), modelManager.getFilteredPersonList());
+
+        modelManager.stackFilters(new NameContainsKeywordsPredicate(Arrays.asList("carl", "dan")));
+        assertEquals(Arrays.asList(carl, renamedAbe), modelManager.getFilteredPersonList());
+
+        modelManager.clearFilter();
+        modelManager.deletePerson(bea);
+        modelManager.sortPersons(SortField.ID);
+        assertEquals(Arrays.asList(carl, renamedAbe), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersons_editAndDeleteSortedPersons_keepsOrder() {
+        Person abe = new ClientBuilder().withId(1).withName("abe").build();
+        Person bea = new ClientBuilder().withId(2).withName("Bea").build();
+        Person carl = new ClientBuilder().withId(3).withName("Carl").build();
+        modelManager.addPerson(carl);
+        modelManager.addPerson(bea);
+        modelManager.addPerson(abe);
+        modelManager.sortPersons(SortField.NAME);
+
+        Person dan = new ClientBuilder().withId(1).withName("Dan").build();
+        modelManager.setPerson(abe, dan);
+        assertEquals(Arrays.asList(bea, carl, dan), modelManager.getFilteredPersonList());
+
+        Person aaron = new ClientBuilder().withId(3).withName("Aaron").build();
+        modelManager.setPerson(carl, aaron);
+        assertEquals(Arrays.asList(aaron, bea, dan), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(bea);
+        assertEquals(Arrays.asList(aaron, dan), modelManager.getFilteredPersonList());
+        modelManager.deletePerson(dan);
+        assertEquals(Arrays.asList(aaron), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void rankPersons_tiesKeepLastSortUntilFilterClearedOrSorted() {
+        Person carl = new ClientBuilder().withId(1).withName("Carl").build();
+        Person abe = new ClientBuilder().withId(2).withName("abe").build();
+        Person bea = new ClientBuilder().withId(3).withName("Bea").build();
+        modelManager.addPerson(carl);
+        modelManager.addPerson(abe);
+        modelManager.addPerson(bea);
+        modelManager.sortPersons(SortField.NAME);
+
+        Comparator<Person> carlFirst = Comparator.comparing(person -> !person.equals(carl));
+        modelManager.rankPersons(carlFirst);
+        assertEquals(Arrays.asList(carl, abe, bea), modelManager.getFilteredPersonList());
+
+        modelManager.clearFilter();
+        assertEquals(Arrays.asList(abe, bea, carl), modelManager.getFilteredPersonList());
+
+        modelManager.rankPersons(carlFirst);
+        modelManager.sortPersons(SortField.NAME);
+        assertEquals(Arrays.asList(abe, bea, carl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void exportCsv_afterSort_writesPersonsInSortedOrder() throws Exception {
+        Person carl = new ClientBuilder().withId(1).withName("Carl").build();
+        Person abe = new ClientBuilder().withId(2).withName("abe").build();
+        Person bea = new ClientBuilder().withId(3).withName("Bea").build();
+        modelManager.addPerson(carl);
+        modelManager.addPerson(abe);
+        modelManager.addPerson(bea);
+        modelManager.sortPersons(SortField.NAME);
+
+        Path exported = Paths.get(CsvExporter.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .resolveSibling("sorted_export.csv");
+        try {
+            assertTrue(modelManager.exportCsv("sorted_export.csv"));
+            List<String> names = new ArrayList<>();
+            for (String row : Files.readAllLines(exported).subList(1, 4)) {
+                names.add(row.split(",")[1]);
+            }
+            assertEquals(Arrays.asList("abe", "Bea", "Carl"), names);
+        } finally {
+            Files.deleteIfExists(exported);
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -73,6 +73,22 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedFiona));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterIdentityEdited_tracksEditedIdentity() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceId = new EmployeeBuilder(BOB).withId(ALICE.getId().value).build();
+        uniquePersonList.setPerson(ALICE, bobWithAliceId);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void hasId_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.hasId(null));
@@ -105,6 +121,33 @@ public class UniquePersonListTest {
         assertEquals(ALICE, uniquePersonList.getPersonById(ALICE.getId()));
     }
 
+    @Test
+    public void getPersonById_afterEarlierPersonRemoved_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.hasId(ALICE.getId()));
+        assertEquals(BOB, uniquePersonList.getPersonById(BOB.getId()));
+        assertEquals(DANIEL, uniquePersonList.getPersonById(DANIEL.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(editedAlice, uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterSetPersons_usesReplacementIds() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Arrays.asList(BOB, DANIEL));
+        assertFalse(uniquePersonList.hasId(ALICE.getId()));
+        assertEquals(DANIEL, uniquePersonList.getPersonById(DANIEL.getId()));
+    }
+
     @Test
     public void countPersonsWithName_nullName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.countPersonsWithName(null));
@@ -129,6 +172,22 @@ public class UniquePersonListTest {
         assertEquals(2, uniquePersonList.countPersonsWithName(ALICE.getName()));
     }
 
+    @Test
+    public void countPersonsWithName_afterRename_tracksNewName() {
+        uniquePersonList.add(ALICE);
+        Client renamedAlice = new ClientBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(0, uniquePersonList.countPersonsWithName(ALICE.getName()));
+        assertEquals(1, uniquePersonList.countPersonsWithName(new Name("alice tan")));
+    }
+
+    @Test
+    public void countPersonsWithName_afterRemove_returnsZero() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.countPersonsWithName(ALICE.getName()));
+    }
+
     @Test
     public void getPersonByName_nullName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.getPersonByName(null));
@@ -158,6 +217,15 @@ public class UniquePersonListTest {
         assertEquals(editedAlice, uniquePersonList.getPersonByName(ALICE.getName()));
     }
 
+    @Test
+    public void getPersonByName_afterRename_returnsRenamedPerson() {
+        uniquePersonList.add(ALICE);
+        Client renamedAlice = new ClientBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(renamedAlice, uniquePersonList.getPersonByName(new Name("ALICE TAN")));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonByName(ALICE.getName()));
+    }
+
     @Test
     public void getPersonByName_twoNameInList_throwsPersonNotFoundException() {
         uniquePersonList.add(ALICE);
@@ -321,6 +389,17 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Employee aliceEmployee = new EmployeeBuilder().withId(BOB.getId().value)
+                .withName(ALICE.getName().fullName)
+                .withPhone(ALICE.getPhone().value)
+                .withEmail(ALICE.getEmail().value)
+                .build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, DANIEL, aliceEmployee);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void setPersons_listWithDuplicateIds_throwsDuplicateIdException() {
         List<Person> listWithDuplicateIds = Arrays.asList(ALICE,
@@ -0,0 +1,74 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.TypicalPersons;
+
+class AndPredicateTest {
+
+    private static final NetConnectPredicate<Person> TAG_FRIENDS =
+            new TagsContainsKeywordsPredicate(List.of("friends"));
+    private static final NetConnectPredicate<Person> TAG_OWES_MONEY =
+            new TagsContainsKeywordsPredicate(List.of("owesMoney"));
+    private static final NetConnectPredicate<Person> ROLE_CLIENT =
+            new RoleMatchesKeywordsPredicate(List.of("client"));
+
+    @Test
+    public void constructor_noOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AndPredicate(List.of()));
+    }
+
+    @Test
+    public void test() {
+        AndPredicate predicate = new AndPredicate(List.of(TAG_FRIENDS, TAG_OWES_MONEY));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void formatFilter() {
+        AndPredicate predicate = new AndPredicate(List.of(
+                new OrPredicate(List.of(TAG_FRIENDS, TAG_OWES_MONEY)), new NotPredicate(ROLE_CLIENT)));
+        assertEquals("(t/friends OR t/owesmoney) AND NOT role/client", predicate.formatFilter());
+    }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertIndexAgreesWithTest(new AndPredicate(List.of(TAG_FRIENDS, ROLE_CLIENT)));
+        assertIndexAgreesWithTest(new AndPredicate(List.of(TAG_FRIENDS, new NotPredicate(TAG_OWES_MONEY))));
+        assertIndexAgreesWithTest(new AndPredicate(List.of(new NotPredicate(TAG_FRIENDS),
+                new NotPredicate(ROLE_CLIENT))));
+    }
+
+    @Test
+    public void matchingIds_unindexedOperand_returnsEmpty() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        AndPredicate predicate = new AndPredicate(List.of(TAG_FRIENDS,
+                new NotPredicate(NetConnectPredicate.box(person -> person.getTags().isEmpty()))));
+        assertEquals(Optional.empty(), predicate.matchingIds(persons.getPersonIndex()));
+    }
+
+    @Test
+    public void equals() {
+        AndPredicate predicate = new AndPredicate(List.of(TAG_FRIENDS, ROLE_CLIENT));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new AndPredicate(List.of(TAG_FRIENDS, ROLE_CLIENT))));
+        assertFalse(predicate.equals(new AndPredicate(List.of(ROLE_CLIENT, TAG_OWES_MONEY))));
+        assertFalse(predicate.equals(new OrPredicate(List.of(TAG_FRIENDS, ROLE_CLIENT))));
+        assertFalse(predicate.equals(null));
+    }
+}
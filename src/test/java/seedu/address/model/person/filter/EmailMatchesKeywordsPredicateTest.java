@@ -0,0 +1,85 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ClientBuilder;
+
+public class EmailMatchesKeywordsPredicateTest {
+
+    @Test
+    public void isValidEmailKeyword() {
+        // full emails, local parts and domains
+        assertTrue(EmailMatchesKeywordsPredicate.isValidEmailKeyword("alex@example.com"));
+        assertTrue(EmailMatchesKeywordsPredicate.isValidEmailKeyword("alex.yeoh@"));
+        assertTrue(EmailMatchesKeywordsPredicate.isValidEmailKeyword("@example.com"));
+        assertTrue(EmailMatchesKeywordsPredicate.isValidEmailKeyword("@com"));
+
+        // invalid keywords
+        assertFalse(EmailMatchesKeywordsPredicate.isValidEmailKeyword(""));
+        assertFalse(EmailMatchesKeywordsPredicate.isValidEmailKeyword("@"));
+        assertFalse(EmailMatchesKeywordsPredicate.isValidEmailKeyword("alex"));
+        assertFalse(EmailMatchesKeywordsPredicate.isValidEmailKeyword("-alex@"));
+        assertFalse(EmailMatchesKeywordsPredicate.isValidEmailKeyword("@example..com"));
+        assertFalse(EmailMatchesKeywordsPredicate.isValidEmailKeyword("alex@@example.com"));
+    }
+
+    @Test
+    public void test_emailMatchesKeywords_returnsTrue() {
+        Person person = new ClientBuilder().withEmail("alex@sales.example.com").build();
+
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("Alex@Sales.Example.com")).test(person));
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("ALEX@")).test(person));
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("@example.com")).test(person));
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("@sales.example.com")).test(person));
+        assertTrue(new EmailMatchesKeywordsPredicate(List.of("bob@", "@com")).test(person));
+    }
+
+    @Test
+    public void test_emailDoesNotMatchKeywords_returnsFalse() {
+        Person person = new ClientBuilder().withEmail("alex@sales.example.com").build();
+
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of()).test(person));
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("alex@example.com")).test(person));
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("ale@")).test(person));
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("@ample.com")).test(person));
+        assertFalse(new EmailMatchesKeywordsPredicate(List.of("@example")).test(person));
+    }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertFalse(assertIndexAgreesWithTest(new EmailMatchesKeywordsPredicate(
+                List.of("@EXAMPLE.com", "alice@", "johnd@example.com"))).isEmpty());
+    }
+
+    @Test
+    public void formatFilter() {
+        assertEquals("e/@example.com e/alex@",
+                new EmailMatchesKeywordsPredicate(List.of("@example.com", "alex@")).formatFilter());
+    }
+
+    @Test
+    public void equals() {
+        EmailMatchesKeywordsPredicate predicate = new EmailMatchesKeywordsPredicate(List.of("@example.com"));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new EmailMatchesKeywordsPredicate(List.of("@example.com"))));
+        assertFalse(predicate.equals(new EmailMatchesKeywordsPredicate(List.of("@example.org"))));
+        assertFalse(predicate.equals(1));
+        assertFalse(predicate.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("@example.com");
+        EmailMatchesKeywordsPredicate predicate = new EmailMatchesKeywordsPredicate(keywords);
+        String expected = EmailMatchesKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
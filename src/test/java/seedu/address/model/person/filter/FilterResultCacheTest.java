@@ -0,0 +1,56 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class FilterResultCacheTest {
+
+    private static final Filter NAME_FILTER = Filter.of(List.of(new NameContainsKeywordsPredicate(List.of("alex"))));
+    private static final Filter TAG_FILTER = Filter.of(List.of(new TagsContainsKeywordsPredicate(List.of("friends"))));
+    private static final Filter ROLE_FILTER = Filter.of(List.of(new RoleMatchesKeywordsPredicate(List.of("client"))));
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FilterResultCache(0));
+    }
+
+    @Test
+    public void get_equalFilterSameVersion_returnsRecordedIds() {
+        FilterResultCache cache = new FilterResultCache();
+        BitSet ids = new BitSet();
+        ids.set(3);
+        cache.put(NAME_FILTER, 1, ids);
+        Filter equalFilter = Filter.of(List.of(new NameContainsKeywordsPredicate(List.of("alex"))));
+        assertSame(ids, cache.get(equalFilter, 1).get());
+        assertEquals(Optional.empty(), cache.get(TAG_FILTER, 1));
+    }
+
+    @Test
+    public void get_newerVersion_dropsAllResults() {
+        FilterResultCache cache = new FilterResultCache();
+        cache.put(NAME_FILTER, 1, new BitSet());
+        cache.put(TAG_FILTER, 1, new BitSet());
+        assertEquals(Optional.empty(), cache.get(NAME_FILTER, 2));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_overCapacity_dropsLeastRecentlyUsed() {
+        FilterResultCache cache = new FilterResultCache(2);
+        cache.put(NAME_FILTER, 1, new BitSet());
+        cache.put(TAG_FILTER, 1, new BitSet());
+        cache.get(NAME_FILTER, 1);
+        cache.put(ROLE_FILTER, 1, new BitSet());
+        assertEquals(2, cache.size());
+        assertEquals(Optional.empty(), cache.get(TAG_FILTER, 1));
+        assertTrue(cache.get(NAME_FILTER, 1).isPresent());
+    }
+}
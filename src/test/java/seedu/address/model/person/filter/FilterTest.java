@@ -4,15 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.index.PersonIndex;
 import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 class FilterTest {
 
@@ -208,4 +216,68 @@ class FilterTest {
         expected = Filter.class.getCanonicalName() + "{filters=" + predicates + "}";
         assertEquals(expected, filter.toString());
     }
+
+    @Test
+    public void matchingIds() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        PersonIndex index = persons.getPersonIndex();
+
+        // empty filter -> not answered from the index
+        assertEquals(Optional.empty(), Filter.noFilter().matchingIds(index));
+
+        // all predicates indexed -> intersection
+        Filter indexed = Filter.of(List.of(
+                new NameContainsKeywordsPredicate(List.of("meier")),
+                new NameContainsKeywordsPredicate(List.of("ben", "dan"))));
+        BitSet expected = new BitSet();
+        expected.set(BENSON.getId().value);
+        expected.set(DANIEL.getId().value);
+        assertEquals(Optional.of(expected), indexed.matchingIds(index));
+
+        // stacked tag filter -> intersected with the name matches
+        Filter withTags = indexed.add(new TagsContainsKeywordsPredicate(List.of("OWESMONEY")));
+        BitSet owesMoney = new BitSet();
+        owesMoney.set(BENSON.getId().value);
+        assertEquals(Optional.of(owesMoney), withTags.matchingIds(index));
+
+        // a predicate without an index -> not answered from the index
+        Filter mixed = indexed.add(NetConnectPredicate.box(person -> person.getRole().equals("Client")));
+        assertEquals(Optional.empty(), mixed.matchingIds(index));
+    }
+
+    @Test
+    public void test_cheapPredicateFails_skipsExpensivePredicates() {
+        NetConnectPredicate<Person> expensive = NetConnectPredicate.box(person -> {
+            throw new AssertionError("expensive predicate should not be tested");
+        });
+        Filter filter = Filter.of(List.of(expensive, new RoleMatchesKeywordsPredicate(List.of("supplier"))));
+        assertFalse(filter.test(BENSON));
+    }
+
+    @Test
+    public void plan_noIndexedPredicate_returnsFilter() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        Filter filter = Filter.of(List.of(NetConnectPredicate.box(person -> person.getRole().equals("Client"))));
+        assertTrue(filter.plan(persons.getPersonIndex()) == filter);
+    }
+
+    @Test
+    public void plan_mixedPredicates_agreesWithTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        Filter filter = Filter.of(List.of(
+                new RemarkContainsKeywordsPredicate(List.of("some remarks")),
+                new RoleMatchesKeywordsPredicate(List.of("client", "employee")),
+                new NameContainsKeywordsPredicate(List.of("e")),
+                NetConnectPredicate.box(person -> !person.getTags().isEmpty()),
+                new IdContainsDigitsPredicate(List.of(1, 2, 3, 99))));
+        Predicate<Person> planned = filter.plan(persons.getPersonIndex());
+        assertTrue(planned instanceof IndexedFilterResult);
+        for (Person person : persons) {
+            assertEquals(filter.test(person), planned.test(person), person.toString());
+        }
+        assertTrue(planned.test(BENSON));
+    }
 }
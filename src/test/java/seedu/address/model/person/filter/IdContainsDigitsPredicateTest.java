@@ -2,13 +2,22 @@ package seedu.address.model.person.filter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalIds.ID_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIds.ID_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.TypicalPersons;
+
 public class IdContainsDigitsPredicateTest {
 
     @Test
@@ -17,6 +26,21 @@ public class IdContainsDigitsPredicateTest {
                 ID_SECOND_PERSON.value));
         assertEquals("i/" + ID_FIRST_PERSON.value + " i/" + ID_SECOND_PERSON.value, predicate.formatFilter());
     }
+    @Test
+    public void test_idInIds_returnsTrue() {
+        IdContainsDigitsPredicate predicate = new IdContainsDigitsPredicate(new int[] {DANIEL.getId().value,
+            ALICE.getId().value});
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(DANIEL));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void equals_intArrayAndListConstructors_returnsTrue() {
+        assertEquals(new IdContainsDigitsPredicate(List.of(ID_FIRST_PERSON.value, ID_SECOND_PERSON.value)),
+                new IdContainsDigitsPredicate(new int[] {ID_FIRST_PERSON.value, ID_SECOND_PERSON.value}));
+    }
+
     @Test
     public void equals() {
         // same object -> returns true
@@ -50,4 +74,16 @@ public class IdContainsDigitsPredicateTest {
                 + ID_SECOND_PERSON.value + "]}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void matchingIds_existingIdsOnly() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        IdContainsDigitsPredicate predicate = new IdContainsDigitsPredicate(List.of(ALICE.getId().value,
+                DANIEL.getId().value, 999));
+        BitSet expected = new BitSet();
+        expected.set(ALICE.getId().value);
+        expected.set(DANIEL.getId().value);
+        assertEquals(Optional.of(expected), predicate.matchingIds(persons.getPersonIndex()));
+    }
 }
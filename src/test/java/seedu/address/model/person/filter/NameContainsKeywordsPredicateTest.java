@@ -3,6 +3,7 @@ package seedu.address.model.person.filter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -100,4 +101,9 @@ public class NameContainsKeywordsPredicateTest {
         String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertIndexAgreesWithTest(new NameContainsKeywordsPredicate(Arrays.asList("MEI", "al", "z")));
+    }
 }
@@ -0,0 +1,137 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.ClientBuilder;
+
+public class NameFuzzyMatchesKeywordsPredicateTest {
+
+    @Test
+    public void formatFilter() {
+        NameFuzzyMatchesKeywordsPredicate predicate =
+                new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("alcie", "bob"));
+        assertEquals("n/alcie~ n/bob~", predicate.formatFilter());
+    }
+
+    @Test
+    public void maxTyposFor() {
+        assertEquals(0, NameFuzzyMatchesKeywordsPredicate.maxTyposFor("al"));
+        assertEquals(1, NameFuzzyMatchesKeywordsPredicate.maxTyposFor("alcie"));
+        assertEquals(2, NameFuzzyMatchesKeywordsPredicate.maxTyposFor("pualine"));
+    }
+
+    @Test
+    public void equals() {
+        NameFuzzyMatchesKeywordsPredicate firstPredicate =
+                new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("first"));
+        NameFuzzyMatchesKeywordsPredicate secondPredicate =
+                new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(Collections.singletonList("first"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameWithinTypos_returnsTrue() {
+        NameFuzzyMatchesKeywordsPredicate predicate =
+                new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("Alcie"));
+        assertTrue(predicate.test(new ClientBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new ClientBuilder().withName("alice").build()));
+
+        // whole name with typos
+        predicate = new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("Alcie Bbo"));
+        assertTrue(predicate.test(new ClientBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameBeyondTypos_returnsFalse() {
+        // zero keywords
+        NameFuzzyMatchesKeywordsPredicate predicate = new NameFuzzyMatchesKeywordsPredicate(new ArrayList<>());
+        assertFalse(predicate.test(new ClientBuilder().withName("Alice").build()));
+
+        // too many typos
+        predicate = new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("Aclei"));
+        assertFalse(predicate.test(new ClientBuilder().withName("Alice Bob").build()));
+
+        // short keywords must match exactly
+        predicate = new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("Bb"));
+        assertFalse(predicate.test(new ClientBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertFalse(assertIndexAgreesWithTest(
+                new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("Meir", "Kurtz", "ALISE"))).isEmpty());
+    }
+
+    @Test
+    public void matchingIds_manyCloseNames_agreesWithTest() {
+        List<Person> people = new ArrayList<>();
+        for (char first = 'a'; first <= 'e'; first++) {
+            for (char second = 'a'; second <= 'f'; second++) {
+                people.add(new ClientBuilder().withId(people.size() + 1)
+                        .withName("Alex " + Character.toUpperCase(first) + second + "n").build());
+            }
+        }
+        people.add(new ClientBuilder().withId(people.size() + 1).withName("Daniel Tan").build());
+        people.add(new ClientBuilder().withId(people.size() + 1).withName("Bob Choo").build());
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(people);
+
+        // "Adneil" is "Daniel" with two transpositions
+        NameFuzzyMatchesKeywordsPredicate predicate =
+                new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("Alx", "Adneil"));
+        // more close names than any per-keyword cap would allow
+        assertEquals(people.size() - 1, assertIndexAgreesWithTest(predicate, persons).cardinality());
+        assertEquals(1, assertIndexAgreesWithTest(new NotPredicate(predicate), persons).cardinality());
+    }
+
+    @Test
+    public void relevanceComparator_closestNameFirst() {
+        NameFuzzyMatchesKeywordsPredicate predicate = new NameFuzzyMatchesKeywordsPredicate(List.of("Jonathan"));
+        Person exact = new ClientBuilder().withId(3).withName("Jonathan Lee").build();
+        Person oneTypo = new ClientBuilder().withId(2).withName("Jonathon").build();
+        Person twoTypos = new ClientBuilder().withId(1).withName("Jnoathon").build();
+        assertEquals(0, predicate.distanceTo(exact));
+        assertEquals(1, predicate.distanceTo(oneTypo));
+        assertEquals(2, predicate.distanceTo(twoTypos));
+
+        List<Person> ranked = new ArrayList<>(List.of(twoTypos, exact, oneTypo));
+        ranked.sort(predicate.relevanceComparator());
+        assertEquals(List.of(exact, oneTypo, twoTypos), ranked);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameFuzzyMatchesKeywordsPredicate predicate = new NameFuzzyMatchesKeywordsPredicate(keywords);
+
+        String expected = NameFuzzyMatchesKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+
+class NotPredicateTest {
+
+    private static final NetConnectPredicate<Person> ROLE_CLIENT =
+            new RoleMatchesKeywordsPredicate(List.of("client"));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NotPredicate(null));
+    }
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(ROLE_CLIENT);
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(FIONA));
+    }
+
+    @Test
+    public void formatFilter() {
+        assertEquals("NOT role/client", new NotPredicate(ROLE_CLIENT).formatFilter());
+        assertEquals("NOT (role/client OR t/friends)", new NotPredicate(new OrPredicate(List.of(ROLE_CLIENT,
+                new TagsContainsKeywordsPredicate(List.of("friends"))))).formatFilter());
+    }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertIndexAgreesWithTest(new NotPredicate(ROLE_CLIENT));
+
+        NotPredicate unindexed = new NotPredicate(NetConnectPredicate.box(person -> true));
+        assertEquals(Optional.empty(), unindexed.matchingIds(new PersonIndex()));
+    }
+
+    @Test
+    public void equals() {
+        NotPredicate predicate = new NotPredicate(ROLE_CLIENT);
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new NotPredicate(new RoleMatchesKeywordsPredicate(List.of("client")))));
+        assertFalse(predicate.equals(ROLE_CLIENT));
+        assertFalse(predicate.equals(null));
+    }
+}
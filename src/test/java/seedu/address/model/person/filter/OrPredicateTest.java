@@ -0,0 +1,64 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+
+class OrPredicateTest {
+
+    private static final NetConnectPredicate<Person> ROLE_CLIENT =
+            new RoleMatchesKeywordsPredicate(List.of("client"));
+    private static final NetConnectPredicate<Person> NAME_DANIEL =
+            new NameContainsKeywordsPredicate(List.of("daniel"));
+
+    @Test
+    public void constructor_noOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new OrPredicate(List.of()));
+    }
+
+    @Test
+    public void test() {
+        OrPredicate predicate = new OrPredicate(List.of(ROLE_CLIENT, NAME_DANIEL));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(DANIEL));
+        assertFalse(predicate.test(FIONA));
+    }
+
+    @Test
+    public void formatFilter() {
+        OrPredicate predicate = new OrPredicate(List.of(ROLE_CLIENT,
+                new AndPredicate(List.of(NAME_DANIEL, new NotPredicate(ROLE_CLIENT)))));
+        assertEquals("role/client OR n/daniel AND NOT role/client", predicate.formatFilter());
+    }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertIndexAgreesWithTest(new OrPredicate(List.of(ROLE_CLIENT, NAME_DANIEL)));
+
+        OrPredicate unindexed = new OrPredicate(List.of(ROLE_CLIENT, NetConnectPredicate.box(person -> true)));
+        assertEquals(Optional.empty(), unindexed.matchingIds(new PersonIndex()));
+    }
+
+    @Test
+    public void equals() {
+        OrPredicate predicate = new OrPredicate(List.of(ROLE_CLIENT, NAME_DANIEL));
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new OrPredicate(List.of(ROLE_CLIENT, NAME_DANIEL))));
+        assertFalse(predicate.equals(new OrPredicate(List.of(NAME_DANIEL))));
+        assertFalse(predicate.equals(new AndPredicate(List.of(ROLE_CLIENT, NAME_DANIEL))));
+        assertFalse(predicate.equals(null));
+    }
+}
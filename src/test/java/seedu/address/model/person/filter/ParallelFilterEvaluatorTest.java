@@ -0,0 +1,71 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.IndexAssert.idsPassingTest;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Id;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class ParallelFilterEvaluatorTest {
+
+    private final ParallelFilterEvaluator evaluator = new ParallelFilterEvaluator(new ForkJoinPool(4));
+
+    @Test
+    public void evaluate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> evaluator.evaluate(null, person -> true));
+        assertThrows(NullPointerException.class, () -> evaluator.evaluate(List.of(), null));
+    }
+
+    @Test
+    public void evaluate_shortList_returnsMatchingIds() {
+        List<Person> persons = TypicalPersons.getTypicalPersons();
+        BitSet expected = new BitSet();
+        for (Person person : persons) {
+            if (person.getName().fullName.contains("Meier")) {
+                expected.set(person.getId().value);
+            }
+        }
+        assertEquals(expected, evaluator.evaluate(persons,
+                new NameContainsKeywordsPredicate(List.of("Meier"))));
+    }
+
+    @Test
+    public void evaluate_longList_agreesWithSequentialTest() {
+        List<Person> persons = new ArrayList<>();
+        for (int id = 1; id <= 3 * ParallelFilterEvaluator.SEQUENTIAL_THRESHOLD; id++) {
+            persons.add(new ClientBuilder().withId(id).withName("Person " + (id % 97)).build());
+        }
+        NetConnectPredicate<Person> predicate = new NameContainsKeywordsPredicate(List.of("son 4"));
+        assertEquals(idsPassingTest(persons, predicate), evaluator.evaluate(persons, predicate));
+    }
+
+    @Test
+    public void evaluateCandidates_testsOnlyCandidates() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        List<Person> tested = new ArrayList<>();
+        NetConnectPredicate<Person> residual = NetConnectPredicate.box(person -> {
+            tested.add(person);
+            return !person.getName().fullName.startsWith("Daniel");
+        });
+        IndexedFilterResult planned = (IndexedFilterResult) Filter.of(List.of(
+                new NameContainsKeywordsPredicate(List.of("Meier")), residual)).plan(persons.getPersonIndex());
+
+        BitSet ids = evaluator.evaluateCandidates(planned, id -> persons.getPersonById(Id.generateTempId(id)));
+        assertEquals(planned.getCandidateIds().cardinality(), tested.size());
+        assertTrue(tested.size() < persons.asUnmodifiableObservableList().size());
+        assertEquals(idsPassingTest(persons, planned.getFilter()), ids);
+    }
+}
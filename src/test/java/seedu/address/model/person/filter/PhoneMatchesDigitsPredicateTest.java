@@ -3,6 +3,7 @@ package seedu.address.model.person.filter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -63,6 +64,18 @@ public class PhoneMatchesDigitsPredicateTest {
         assertTrue(predicate.test(new ClientBuilder().withPhone("94351253").build()));
     }
 
+    @Test
+    public void test_phoneStartsWithPrefix_returnsTrue() {
+        PhoneMatchesDigitsPredicate predicate = new PhoneMatchesDigitsPredicate(Arrays.asList("8*", "9435*"));
+        assertTrue(predicate.test(new ClientBuilder().withPhone("94351253").build()));
+        assertTrue(predicate.test(new ClientBuilder().withPhone("87652533").build()));
+        assertFalse(predicate.test(new ClientBuilder().withPhone("94361253").build()));
+
+        // digits without the wildcard only match exactly
+        predicate = new PhoneMatchesDigitsPredicate(Collections.singletonList("9435"));
+        assertFalse(predicate.test(new ClientBuilder().withPhone("94351253").build()));
+    }
+
     @Test
     public void test_phoneDoesNotMatchDigits_returnsFalse() {
         // Zero keywords
@@ -79,6 +92,12 @@ public class PhoneMatchesDigitsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertFalse(assertIndexAgreesWithTest(new PhoneMatchesDigitsPredicate(
+                Arrays.asList("9*", "87652533", "8765", "1*"))).isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         List<String> phones = List.of("94351253", "98765432");
@@ -0,0 +1,93 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.EmployeeBuilder;
+import seedu.address.testutil.SupplierBuilder;
+
+class ProductsContainsKeywordsPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ProductsContainsKeywordsPredicate(null));
+    }
+
+    @Test
+    public void formatFilter() {
+        ProductsContainsKeywordsPredicate predicate =
+                new ProductsContainsKeywordsPredicate(List.of("pens", "Office Supplies"));
+        assertEquals("prod/pens prod/Office Supplies", predicate.formatFilter());
+    }
+
+    @Test
+    public void test_productsContainKeywords_returnsTrue() {
+        ProductsContainsKeywordsPredicate predicate = new ProductsContainsKeywordsPredicate(List.of("pens"));
+        assertTrue(predicate.test(new SupplierBuilder().withProducts("pens").build()));
+
+        // mixed-case keywords
+        predicate = new ProductsContainsKeywordsPredicate(List.of("PENS", "office supplies"));
+        assertTrue(predicate.test(new SupplierBuilder().withProducts("Office Supplies").build()));
+        assertTrue(predicate.test(new ClientBuilder().withProducts("Office Supplies").build()));
+    }
+
+    @Test
+    public void test_productsDoNotContainKeywords_returnsFalse() {
+        // zero keywords
+        ProductsContainsKeywordsPredicate predicate = new ProductsContainsKeywordsPredicate(List.of());
+        assertFalse(predicate.test(new SupplierBuilder().withProducts("pens").build()));
+
+        // only part of a product
+        predicate = new ProductsContainsKeywordsPredicate(List.of("Office"));
+        assertFalse(predicate.test(new SupplierBuilder().withProducts("Office Supplies").build()));
+
+        // person without products
+        predicate = new ProductsContainsKeywordsPredicate(List.of("pens"));
+        assertFalse(predicate.test(new EmployeeBuilder().build()));
+    }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertFalse(assertIndexAgreesWithTest(
+                new ProductsContainsKeywordsPredicate(List.of("product3", "Furniture"))).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ProductsContainsKeywordsPredicate firstPredicate = new ProductsContainsKeywordsPredicate(List.of("first"));
+        ProductsContainsKeywordsPredicate secondPredicate =
+                new ProductsContainsKeywordsPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new ProductsContainsKeywordsPredicate(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        ProductsContainsKeywordsPredicate predicate = new ProductsContainsKeywordsPredicate(keywords);
+
+        String expected = ProductsContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.person.filter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,6 +11,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.EmployeeBuilder;
 import seedu.address.testutil.SupplierBuilder;
@@ -167,4 +169,20 @@ public class RemarkContainsKeywordsPredicateTest {
         String expected = RemarkContainsKeywordsPredicate.class.getCanonicalName() + "{remarks=" + remarkKeywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(new ClientBuilder().withId(1).withName("A").withPhone("11111111").withRemark("he has a dog")
+                .build());
+        persons.add(new EmployeeBuilder().withId(2).withName("B").withPhone("22222222").withRemark("").build());
+        persons.add(new SupplierBuilder().withId(3).withName("C").withPhone("33333333").withRemark("Dog has fleas")
+                .build());
+        persons.add(new ClientBuilder().withId(4).withName("D").withPhone("44444444").withRemark("cat").build());
+
+        for (List<String> keywords : List.of(List.of("has dog"), List.of("fleas", "cat"), List.of(""),
+                List.of("", "DOG"), List.of("dog fleas cat"))) {
+            assertIndexAgreesWithTest(new RemarkContainsKeywordsPredicate(keywords), persons);
+        }
+    }
 }
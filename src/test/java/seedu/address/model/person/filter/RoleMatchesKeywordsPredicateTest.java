@@ -3,6 +3,7 @@ package seedu.address.model.person.filter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -89,6 +90,11 @@ class RoleMatchesKeywordsPredicateTest {
         assertFalse(predicate.test(new SupplierBuilder().build()));
     }
 
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertIndexAgreesWithTest(new RoleMatchesKeywordsPredicate(List.of("CLIENT", "supplier")));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> roles = List.of("client", "supplier");
@@ -0,0 +1,91 @@
+package seedu.address.model.person.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.EmployeeBuilder;
+
+class SkillsContainsKeywordsPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SkillsContainsKeywordsPredicate(null));
+    }
+
+    @Test
+    public void formatFilter() {
+        SkillsContainsKeywordsPredicate predicate =
+                new SkillsContainsKeywordsPredicate(List.of("Java", "Public Speaking"));
+        assertEquals("skills/Java skills/Public Speaking", predicate.formatFilter());
+    }
+
+    @Test
+    public void test_skillsContainKeywords_returnsTrue() {
+        SkillsContainsKeywordsPredicate predicate = new SkillsContainsKeywordsPredicate(List.of("Java"));
+        assertTrue(predicate.test(new EmployeeBuilder().withSkills("Java").build()));
+
+        // mixed-case keywords
+        predicate = new SkillsContainsKeywordsPredicate(List.of("JAVA", "public speaking"));
+        assertTrue(predicate.test(new EmployeeBuilder().withSkills("Public Speaking").build()));
+    }
+
+    @Test
+    public void test_skillsDoNotContainKeywords_returnsFalse() {
+        // zero keywords
+        SkillsContainsKeywordsPredicate predicate = new SkillsContainsKeywordsPredicate(List.of());
+        assertFalse(predicate.test(new EmployeeBuilder().withSkills("Java").build()));
+
+        // only part of a skill
+        predicate = new SkillsContainsKeywordsPredicate(List.of("Public"));
+        assertFalse(predicate.test(new EmployeeBuilder().withSkills("Public Speaking").build()));
+
+        // person without skills
+        predicate = new SkillsContainsKeywordsPredicate(List.of("Java"));
+        assertFalse(predicate.test(new ClientBuilder().build()));
+    }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertFalse(assertIndexAgreesWithTest(
+                new SkillsContainsKeywordsPredicate(List.of("c++", "digital marketing"))).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        SkillsContainsKeywordsPredicate firstPredicate = new SkillsContainsKeywordsPredicate(List.of("first"));
+        SkillsContainsKeywordsPredicate secondPredicate =
+                new SkillsContainsKeywordsPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new SkillsContainsKeywordsPredicate(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        SkillsContainsKeywordsPredicate predicate = new SkillsContainsKeywordsPredicate(keywords);
+
+        String expected = SkillsContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
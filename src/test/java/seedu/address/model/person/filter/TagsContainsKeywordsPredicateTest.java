@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.IndexAssert.assertIndexAgreesWithTest;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -111,4 +112,9 @@ class TagsContainsKeywordsPredicateTest {
         String expected = TagsContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void matchingIds_agreesWithTest() {
+        assertIndexAgreesWithTest(new TagsContainsKeywordsPredicate(Arrays.asList("OwesMoney", "friend", "friends")));
+    }
 }
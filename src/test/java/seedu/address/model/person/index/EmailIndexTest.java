@@ -0,0 +1,79 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Email;
+
+public class EmailIndexTest {
+
+    private final EmailIndex index = new EmailIndex();
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    private BitSet idsWithDomain(String domain) {
+        BitSet ids = new BitSet();
+        index.addIdsWithDomain(domain, ids);
+        return ids;
+    }
+
+    @Test
+    public void addIdsWithDomain_matchesDomainAndSubdomains() {
+        index.add(1, new Email("alex@example.com"));
+        index.add(2, new Email("bernice@sales.EXAMPLE.com"));
+        index.add(3, new Email("alex@example.org"));
+        index.add(4, new Email("charlotte@notexample.com"));
+        assertEquals(bits(1, 2), idsWithDomain("Example.com"));
+        assertEquals(bits(2), idsWithDomain("sales.example.com"));
+        assertEquals(bits(1, 2, 4), idsWithDomain("com"));
+        assertEquals(bits(), idsWithDomain("ample.com"));
+        assertEquals(2, index.countWithDomain("example.com"));
+    }
+
+    @Test
+    public void addIdsWithAddressAndLocalPart() {
+        index.add(1, new Email("alex@example.com"));
+        index.add(2, new Email("Alex@example.org"));
+        index.add(3, new Email("alexa@example.com"));
+
+        BitSet ids = new BitSet();
+        index.addIdsWithLocalPart("ALEX", ids);
+        assertEquals(bits(1, 2), ids);
+
+        ids = new BitSet();
+        index.addIdsWithAddress("alex@Example.org", ids);
+        assertEquals(bits(2), ids);
+    }
+
+    @Test
+    public void addAndRemove_keepIndexUpToDate() {
+        index.add(1, new Email("alex@example.com"));
+        index.add(1, new Email("alex@example.org"));
+        assertEquals(bits(), idsWithDomain("example.com"));
+        assertEquals(bits(1), idsWithDomain("example.org"));
+
+        index.remove(1);
+        assertEquals(bits(), idsWithDomain("example.org"));
+
+        index.add(2, new Email("bernice@example.org"));
+        index.clear();
+        assertEquals(bits(), idsWithDomain("org"));
+    }
+
+    @Test
+    public void domainAndParentsOf() {
+        assertEquals(List.of("mail.example.com", "example.com", "com"),
+                EmailIndex.domainAndParentsOf("mail.example.com"));
+        assertEquals(List.of("localhost"), EmailIndex.domainAndParentsOf("localhost"));
+    }
+}
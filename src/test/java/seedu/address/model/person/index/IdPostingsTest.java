@@ -0,0 +1,53 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class IdPostingsTest {
+
+    private final IdPostings postings = new IdPostings();
+
+    @Test
+    public void add_outOfOrder_keepsIdsSorted() {
+        assertTrue(postings.add(5));
+        assertTrue(postings.add(1));
+        assertTrue(postings.add(9));
+        assertTrue(postings.add(3));
+        assertFalse(postings.add(5));
+        assertEquals(4, postings.size());
+        assertEquals(1, postings.get(0));
+        assertEquals(3, postings.get(1));
+        assertEquals(5, postings.get(2));
+        assertEquals(9, postings.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> postings.get(4));
+    }
+
+    @Test
+    public void remove() {
+        postings.add(1);
+        postings.add(2);
+        assertTrue(postings.remove(1));
+        assertFalse(postings.remove(1));
+        assertFalse(postings.contains(1));
+        assertTrue(postings.contains(2));
+        assertTrue(postings.remove(2));
+        assertTrue(postings.isEmpty());
+    }
+
+    @Test
+    public void toBitSet() {
+        for (int i = 1; i <= 100; i += 3) {
+            postings.add(i);
+        }
+        BitSet bits = postings.toBitSet();
+        assertEquals(postings.size(), bits.cardinality());
+        assertTrue(bits.get(100));
+        assertFalse(bits.get(99));
+    }
+}
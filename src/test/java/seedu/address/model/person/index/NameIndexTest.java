@@ -0,0 +1,126 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Name;
+
+public class NameIndexTest {
+
+    private final NameIndex index = new NameIndex();
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    @Test
+    public void idsWithNameContaining_shortKeyword_comparesWithEveryName() {
+        index.add(1, new Name("Alice Pauline"));
+        index.add(2, new Name("Benson Meier"));
+        assertEquals(bits(1, 2), index.idsWithNameContaining("E"));
+        assertEquals(bits(1), index.idsWithNameContaining("ali"));
+        assertEquals(bits(2), index.idsWithNameContaining("n m"));
+        assertEquals(bits(), index.idsWithNameContaining("xyz"));
+    }
+
+    @Test
+    public void idsWithNameContaining_longKeyword_confirmsCandidates() {
+        index.add(1, new Name("Alice Pauline"));
+        index.add(2, new Name("Paul Alin"));
+        // "Paul Alin" shares some trigrams with "pauline" without containing it
+        assertEquals(bits(1), index.idsWithNameContaining("PAULINE"));
+        assertEquals(bits(), index.idsWithNameContaining("alice paulines"));
+    }
+
+    @Test
+    public void remove_removesFromPostings() {
+        index.add(1, new Name("Alice"));
+        index.add(2, new Name("Alicia"));
+        index.remove(1);
+        index.remove(3);
+        assertEquals(bits(2), index.idsWithNameContaining("ali"));
+        assertEquals(bits(), index.idsWithNameContaining("alice"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void idsWithNameContaining_agreesWithPartialMatch() {
+        List<String> names = List.of("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer",
+                "Fiona Kunz", "George Best", "Hoon Meier", "Ida Mueller", "Amy Bee", "Bob Choo");
+        List<String> keywords = List.of("a", "Me", "eie", "meier", "MEYER", "l m", "ur", "ida m", "o", "bee",
+                "Best ", "z");
+        Map<Integer, String> byId = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            index.add(i + 1, new Name(names.get(i)));
+            byId.put(i + 1, names.get(i));
+        }
+        for (String keyword : keywords) {
+            BitSet expected = new BitSet();
+            byId.forEach((id, name) -> {
+                if (StringUtil.hasPartialMatchIgnoreCase(keyword, name)) {
+                    expected.set(id);
+                }
+            });
+            assertEquals(expected, index.idsWithNameContaining(keyword), keyword);
+        }
+        assertEquals(3, index.idsWithNameContaining("meier").cardinality());
+    }
+
+    @Test
+    public void idsWithNameWithin_typos_returnsAllCloseNames() {
+        index.add(1, new Name("Alice Pauline"));
+        index.add(2, new Name("Alicia Keys"));
+        index.add(3, new Name("Benson Meier"));
+        index.add(4, new Name("Alice"));
+        assertEquals(bits(1, 2, 4), index.idsWithNameWithin("Alcie", 2));
+        assertEquals(bits(1, 4), index.idsWithNameWithin("alcie", 1));
+        assertEquals(bits(3), index.idsWithNameWithin("Bensno Meier", 2));
+        assertEquals(bits(3), index.idsWithNameWithin("bensonmeier", 1));
+        assertEquals(bits(), index.idsWithNameWithin("Carl", 1));
+    }
+
+    @Test
+    public void idsWithNameWithin_removedName_notReturned() {
+        index.add(1, new Name("Alice"));
+        index.add(2, new Name("Alicia"));
+        index.remove(1);
+        assertEquals(bits(2), index.idsWithNameWithin("alica", 1));
+        index.add(2, new Name("Bob"));
+        assertEquals(bits(), index.idsWithNameWithin("alica", 1));
+        assertEquals(bits(2), index.idsWithNameWithin("bbo", 1));
+    }
+
+    @Test
+    public void idsWithNameWithin_agreesWithNameDistance() {
+        List<String> names = List.of("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer",
+                "Fiona Kunz", "George Best", "Hoon Meier", "Ida Mueller", "Amy Bee", "Bob Choo", "Aaaaab",
+                "Al  Li");
+        for (int i = 0; i < names.size(); i++) {
+            index.add(i + 1, new Name(names.get(i)));
+        }
+        // "adneil" is "daniel" with two transpositions, which share no grams
+        for (String keyword : List.of("meir", "mueler", "georeg", "kunz", "pualine", "bo", "danielle meyer",
+                "adneil", "aaaaaa", "al li", "li", "x")) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                BitSet expected = new BitSet();
+                for (int i = 0; i < names.size(); i++) {
+                    if (NameIndex.nameDistance(names.get(i), keyword, maxDistance) <= maxDistance) {
+                        expected.set(i + 1);
+                    }
+                }
+                assertEquals(expected, index.idsWithNameWithin(keyword, maxDistance), keyword + " " + maxDistance);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Phone;
+
+public class PhoneIndexTest {
+
+    private final PhoneIndex index = new PhoneIndex();
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    @Test
+    public void idsWithPhonePrefix_exactAndPrefix() {
+        index.add(1, new Phone("94351253"));
+        index.add(2, new Phone("94359999"));
+        index.add(3, new Phone("94360000"));
+        index.add(4, new Phone("94351253"));
+        assertEquals(bits(1, 4), index.idsWithPhonePrefix("94351253"));
+        assertEquals(bits(1, 2, 4), index.idsWithPhonePrefix("9435"));
+        assertEquals(bits(1, 2, 3, 4), index.idsWithPhonePrefix("9"));
+        assertEquals(bits(), index.idsWithPhonePrefix("8"));
+        assertEquals(3, index.countWithPhonePrefix("9435"));
+    }
+
+    @Test
+    public void idsWithPhonePrefix_invalidPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.idsWithPhonePrefix(""));
+        assertThrows(IllegalArgumentException.class, () -> index.idsWithPhonePrefix("123456789"));
+        assertThrows(IllegalArgumentException.class, () -> index.idsWithPhonePrefix("12a"));
+    }
+
+    @Test
+    public void add_existingId_replacesPhone() {
+        index.add(1, new Phone("94351253"));
+        index.add(1, new Phone("87652533"));
+        assertEquals(bits(), index.idsWithPhonePrefix("9"));
+        assertEquals(bits(1), index.idsWithPhonePrefix("8765"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void remove_removesPhone() {
+        index.add(1, new Phone("94351253"));
+        index.add(2, new Phone("94351253"));
+        index.remove(1);
+        index.remove(3);
+        assertEquals(bits(2), index.idsWithPhonePrefix("94351253"));
+        index.clear();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void randomPhones_matchStartsWith() {
+        Random random = new Random(5);
+        Map<Integer, String> phones = new HashMap<>();
+        for (int id = 1; id <= 500; id++) {
+            String phone = String.format("%08d", random.nextInt(100_000_000) / 1000 * 1000);
+            phones.put(id, phone);
+            index.add(id, new Phone(phone));
+        }
+        for (int i = 0; i < 100; i++) {
+            String prefix = phones.get(1 + random.nextInt(500)).substring(0, 1 + random.nextInt(8));
+            BitSet expected = new BitSet();
+            phones.forEach((id, phone) -> {
+                if (phone.startsWith(prefix)) {
+                    expected.set(id);
+                }
+            });
+            assertEquals(expected, index.idsWithPhonePrefix(prefix), prefix);
+        }
+    }
+}
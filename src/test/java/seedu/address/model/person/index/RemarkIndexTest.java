@@ -0,0 +1,69 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Remark;
+
+public class RemarkIndexTest {
+
+    private final RemarkIndex index = new RemarkIndex();
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    @Test
+    public void idsWithAllWords_intersectsWords() {
+        index.add(1, new Remark("he has a dog"));
+        index.add(2, new Remark("Has\tcat"));
+        index.add(3, new Remark("  dog  lover "));
+        assertEquals(bits(1, 2), index.idsWithAllWords(List.of("HAS")));
+        assertEquals(bits(1), index.idsWithAllWords(List.of("dog", "has")));
+        assertEquals(bits(1, 3), index.idsWithAllWords(List.of("dog")));
+        assertEquals(bits(), index.idsWithAllWords(List.of("do")));
+        assertEquals(bits(), index.idsWithAllWords(List.of()));
+    }
+
+    @Test
+    public void addIdsWithBlankRemark_blankRemarksOnly() {
+        index.add(1, new Remark(""));
+        index.add(2, new Remark(" \t"));
+        index.add(3, new Remark("remark"));
+        BitSet ids = new BitSet();
+        index.addIdsWithBlankRemark(ids);
+        assertEquals(bits(1, 2), ids);
+    }
+
+    @Test
+    public void add_existingId_replacesRemark() {
+        index.add(1, new Remark(""));
+        index.add(1, new Remark("owes money"));
+        BitSet blank = new BitSet();
+        index.addIdsWithBlankRemark(blank);
+        assertEquals(bits(), blank);
+        assertEquals(bits(1), index.idsWithAllWords(List.of("money")));
+
+        index.remove(1);
+        assertEquals(bits(), index.idsWithAllWords(List.of("money")));
+    }
+
+    @Test
+    public void clear_removesAllRemarks() {
+        index.add(1, new Remark(""));
+        index.add(2, new Remark("owes money"));
+        index.clear();
+        BitSet blank = new BitSet();
+        index.addIdsWithBlankRemark(blank);
+        assertEquals(bits(), blank);
+        assertEquals(bits(), index.idsWithAllWords(List.of("money")));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class SortKeyIndexTest {
+
+    private final SortKeyIndex index = new SortKeyIndex();
+
+    private List<Person> sorted(SortField field, Person... persons) {
+        List<Person> list = new ArrayList<>(Arrays.asList(persons));
+        list.sort(index.comparatorFor(field));
+        return list;
+    }
+
+    @Test
+    public void comparatorFor_name_ignoresCaseThenOrdersById() {
+        Person carl = new ClientBuilder().withId(1).withName("carl").build();
+        Person bob = new ClientBuilder().withId(2).withName("Bob").build();
+        Person otherBob = new ClientBuilder().withId(3).withName("bob").build();
+        index.add(carl);
+        index.add(bob);
+        index.add(otherBob);
+        assertEquals(Arrays.asList(bob, otherBob, carl), sorted(SortField.NAME, otherBob, carl, bob));
+        assertEquals(Arrays.asList(carl, bob, otherBob), sorted(SortField.ID, otherBob, carl, bob));
+    }
+
+    @Test
+    public void comparatorFor_missingField_ordersLast() {
+        Person client = new ClientBuilder().withId(1).build();
+        Person sales = new EmployeeBuilder().withId(2).withDepartment("Sales").build();
+        Person finance = new EmployeeBuilder().withId(3).withDepartment("Finance").build();
+        index.add(client);
+        index.add(sales);
+        index.add(finance);
+        assertFalse(index.keyOf(SortField.DEPARTMENT, client).isPresent());
+        assertEquals(Arrays.asList(finance, sales, client), sorted(SortField.DEPARTMENT, client, sales, finance));
+    }
+
+    @Test
+    public void comparatorFor_editedPerson_eachVersionComparesByItsOwnValues() {
+        Person before = new ClientBuilder().withId(1).withName("Zed").build();
+        Person after = new ClientBuilder().withId(1).withName("Abe").build();
+        Person other = new ClientBuilder().withId(2).withName("Max").build();
+        index.add(before);
+        index.add(other);
+        index.remove(before);
+        index.add(after);
+        assertEquals(Arrays.asList(after, other), sorted(SortField.NAME, other, after));
+        assertEquals(Arrays.asList(other, before), sorted(SortField.NAME, before, other));
+    }
+
+    @Test
+    public void remove_dropsKeysOfThatPersonOnly() {
+        Person removed = new ClientBuilder().withId(1).withName("Abe").build();
+        Person kept = new ClientBuilder().withId(2).build();
+        index.add(removed);
+        index.add(kept);
+        index.remove(removed);
+        assertTrue(index.keyOf(SortField.NAME, kept).isPresent());
+        // a person that is no longer indexed still has the key of its own name
+        assertEquals(index.keyOf(SortField.NAME, new ClientBuilder().withId(3).withName("abe").build()),
+                index.keyOf(SortField.NAME, removed));
+        index.clear();
+        assertTrue(index.keyOf(SortField.NAME, kept).isPresent());
+        assertFalse(index.keyOf(SortField.DEPARTMENT, kept).isPresent());
+    }
+
+    @Test
+    public void keyOf_id_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.keyOf(SortField.ID, new ClientBuilder().build()));
+    }
+}
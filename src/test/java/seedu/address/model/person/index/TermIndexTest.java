@@ -0,0 +1,63 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TermIndexTest {
+
+    private final TermIndex index = new TermIndex();
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    @Test
+    public void idsWithTerm_ignoresCase() {
+        index.add(1, List.of("friends", "owesMoney"));
+        index.add(2, List.of("Friends"));
+        assertEquals(bits(1, 2), index.idsWithTerm("FRIENDS"));
+        assertEquals(bits(1), index.idsWithTerm("owesmoney"));
+        assertEquals(bits(), index.idsWithTerm("friend"));
+        assertEquals(2, index.countOf("friends"));
+        assertEquals(2, index.termCount());
+    }
+
+    @Test
+    public void add_existingId_replacesTerms() {
+        index.add(1, List.of("friends"));
+        index.add(1, List.of("colleagues", "COLLEAGUES"));
+        assertEquals(bits(), index.idsWithTerm("friends"));
+        assertEquals(bits(1), index.idsWithTerm("colleagues"));
+        assertEquals(1, index.termCount());
+    }
+
+    @Test
+    public void remove_removesFromPostings() {
+        index.add(1, List.of("friends"));
+        index.add(2, List.of("friends"));
+        index.remove(1);
+        index.remove(3);
+        assertEquals(bits(2), index.idsWithTerm("friends"));
+        index.remove(2);
+        assertEquals(0, index.termCount());
+    }
+
+    @Test
+    public void addIdsWithTerm_unionsIntoIds() {
+        index.add(1, List.of("friends"));
+        index.add(2, List.of("family"));
+        BitSet ids = bits(5);
+        index.addIdsWithTerm("friends", ids);
+        index.addIdsWithTerm("family", ids);
+        index.addIdsWithTerm("unknown", ids);
+        assertEquals(bits(1, 2, 5), ids);
+    }
+}
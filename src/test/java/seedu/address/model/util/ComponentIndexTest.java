@@ -0,0 +1,151 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class ComponentIndexTest {
+
+    private final RelationGraph graph = new RelationGraph();
+    private final ComponentIndex index = new ComponentIndex(graph);
+
+    private void addEdge(int first, int second) {
+        if (graph.addEdge(first, second)) {
+            index.union(first, second);
+        }
+    }
+
+    private void removeEdge(int first, int second) {
+        if (graph.removeEdge(first, second)) {
+            index.markStale(first);
+        }
+    }
+
+    private void removeVertex(int id) {
+        if (graph.removeVertex(id).length > 0) {
+            index.markStale(id);
+        }
+    }
+
+    private static int[] sorted(int[] ids) {
+        int[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Test
+    public void componentOf_unrelatedId_returnsIdOnly() {
+        assertArrayEquals(new int[] {5}, index.componentOf(5));
+        assertEquals(1, index.componentSize(5));
+        assertTrue(index.sizeDistribution().isEmpty());
+    }
+
+    @Test
+    public void union_mergesComponents() {
+        addEdge(1, 2);
+        addEdge(3, 4);
+        addEdge(4, 5);
+        assertEquals(Map.of(2, 1, 3, 1), index.sizeDistribution());
+        addEdge(2, 3);
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, sorted(index.componentOf(4)));
+        assertEquals(Map.of(5, 1), index.sizeDistribution());
+    }
+
+    @Test
+    public void markStale_removedBridge_splitsComponent() {
+        addEdge(1, 2);
+        addEdge(2, 3);
+        addEdge(3, 4);
+        removeEdge(2, 3);
+        assertArrayEquals(new int[] {1, 2}, sorted(index.componentOf(1)));
+        assertArrayEquals(new int[] {3, 4}, sorted(index.componentOf(4)));
+        assertEquals(Map.of(2, 2), index.sizeDistribution());
+    }
+
+    @Test
+    public void markStale_removedCycleEdge_keepsComponent() {
+        addEdge(1, 2);
+        addEdge(2, 3);
+        addEdge(3, 1);
+        removeEdge(1, 2);
+        assertEquals(3, index.componentSize(2));
+    }
+
+    @Test
+    public void markStale_removedHub_leavesSingletons() {
+        for (int i = 2; i <= 6; i++) {
+            addEdge(1, i);
+        }
+        addEdge(5, 6);
+        removeVertex(1);
+        assertEquals(1, index.componentSize(1));
+        assertEquals(1, index.componentSize(2));
+        assertArrayEquals(new int[] {5, 6}, sorted(index.componentOf(6)));
+        assertEquals(Map.of(2, 1), index.sizeDistribution());
+    }
+
+    @Test
+    public void union_afterStaleMerge_repairsMergedComponent() {
+        addEdge(1, 2);
+        addEdge(2, 3);
+        removeEdge(1, 2);
+        // merges the stale component into a larger one before it is repaired
+        addEdge(3, 4);
+        addEdge(4, 5);
+        addEdge(5, 6);
+        assertEquals(1, index.componentSize(1));
+        assertArrayEquals(new int[] {2, 3, 4, 5, 6}, sorted(index.componentOf(2)));
+    }
+
+    @Test
+    public void clear_removesAllComponents() {
+        addEdge(1, 2);
+        graph.clear();
+        index.clear();
+        assertEquals(1, index.componentSize(1));
+        assertTrue(index.sizeDistribution().isEmpty());
+    }
+
+    @Test
+    public void randomOperations_matchGraphTraversal() {
+        Random random = new Random(11);
+        for (int step = 0; step < 3000; step++) {
+            int first = 1 + random.nextInt(80);
+            int second = 1 + random.nextInt(80);
+            int operation = random.nextInt(10);
+            if (operation < 6) {
+                addEdge(first, second);
+            } else if (operation < 9) {
+                removeEdge(first, second);
+            } else {
+                removeVertex(first);
+            }
+
+            if (step % 100 == 0) {
+                Map<Integer, Integer> expectedDistribution = new TreeMap<>();
+                boolean[] counted = new boolean[81];
+                for (int id = 1; id <= 80; id++) {
+                    int[] reachable = graph.idsWithinDepth(id, Integer.MAX_VALUE, Integer.MAX_VALUE);
+                    int[] expected = Arrays.copyOf(reachable, reachable.length + 1);
+                    expected[reachable.length] = id;
+                    Arrays.sort(expected);
+                    assertArrayEquals(expected, sorted(index.componentOf(id)));
+                    if (!counted[id] && expected.length > 1) {
+                        expectedDistribution.merge(expected.length, 1, Integer::sum);
+                        for (int member : expected) {
+                            counted[member] = true;
+                        }
+                    }
+                }
+                assertEquals(expectedDistribution, index.sizeDistribution());
+            }
+        }
+    }
+}
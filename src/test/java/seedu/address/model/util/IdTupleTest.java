@@ -20,6 +20,12 @@ public class IdTupleTest {
         assertEquals(secondPersonId, idTuple.getSecondPersonId());
     }
 
+    @Test
+    public void hashCode_reversedTuple_sameHashCode() {
+        IdTuple idTuple = new IdTuple(Id.generateTempId(1), Id.generateTempId(2));
+        assertEquals(idTuple.hashCode(), idTuple.getReversedTuple().hashCode());
+    }
+
     @Test
     public void getReversedTuple_validIds_success() {
         Id firstPersonId = Id.generateTempId(1);
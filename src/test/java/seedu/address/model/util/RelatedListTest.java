@@ -2,7 +2,14 @@ package seedu.address.model.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +45,19 @@ public class RelatedListTest {
         assertTrue(relatedList.hasId(idTuple));
     }
 
+    @Test
+    public void allowAddIdTuple_reversedIdTuple_returnsFalse() {
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)));
+        assertFalse(relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(2), Id.generateTempId(1))));
+        assertEquals(1, relatedList.size());
+    }
+
+    @Test
+    public void hasId_reversedIdTuple_returnsTrue() {
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)));
+        assertTrue(relatedList.hasId(new IdTuple(Id.generateTempId(2), Id.generateTempId(1))));
+    }
+
     @Test
     public void hasId_relatedListDoesNotContainIdTuple_returnsFalse() {
         IdTuple idTuple = new IdTuple(Id.generateTempId(1), Id.generateTempId(2));
@@ -57,6 +77,14 @@ public class RelatedListTest {
         assertFalse(relatedList.removeTuple(idTuple));
     }
 
+    @Test
+    public void remove_reversedIdTuple_removesRelation() {
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)));
+        assertTrue(relatedList.removeTuple(new IdTuple(Id.generateTempId(2), Id.generateTempId(1))));
+        assertTrue(relatedList.isEmpty());
+        assertTrue(relatedList.getAllRelatedIds(relatedList, Id.generateTempId(1)).isEmpty());
+    }
+
     @Test
     public void getAllRelatedIds_relatedListContainsId_returnsListOfRelatedIds() {
         IdTuple idTuple1 = new IdTuple(Id.generateTempId(1), Id.generateTempId(2));
@@ -80,6 +108,18 @@ public class RelatedListTest {
         assertTrue(relatedList.isEmpty());
     }
 
+    @Test
+    public void removeId_idHasRelations_removesOnlyIncidentRelations() {
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)));
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(2), Id.generateTempId(3)));
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(3), Id.generateTempId(4)));
+
+        relatedList.removeId(Id.generateTempId(2));
+        assertEquals(1, relatedList.size());
+        assertEquals(List.of(4), relatedList.getAllRelatedIds(relatedList, Id.generateTempId(3)));
+        assertTrue(relatedList.getAllRelatedIds(relatedList, Id.generateTempId(1)).isEmpty());
+    }
+
     @Test
     public void removeId_idHasNoRelations_noChangeInRelatedList() {
         IdTuple idTuple = new IdTuple(Id.generateTempId(1), Id.generateTempId(2));
@@ -93,6 +133,17 @@ public class RelatedListTest {
 
 
 
+    @Test
+    public void setRelatedList_replacesExistingRelationsAndDropsDuplicates() {
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(5), Id.generateTempId(6)));
+        IdTuple idTuple = new IdTuple(Id.generateTempId(1), Id.generateTempId(2));
+        relatedList.setRelatedList(List.of(idTuple, idTuple.getReversedTuple()));
+
+        assertEquals(1, relatedList.size());
+        assertTrue(relatedList.hasId(idTuple));
+        assertFalse(relatedList.hasId(new IdTuple(Id.generateTempId(5), Id.generateTempId(6))));
+    }
+
     @Test
     public void asUnmodifiableObservableList_returnsUnmodifiableList() {
         assertTrue(relatedList.asUnmodifiableObservableList().isEmpty());
@@ -104,6 +155,61 @@ public class RelatedListTest {
         assertFalse(relatedList.iterator().hasNext());
     }
 
+    @Test
+    public void iterator_walksRelationsInOrder() {
+        IdTuple first = new IdTuple(Id.generateTempId(1), Id.generateTempId(2));
+        IdTuple second = new IdTuple(Id.generateTempId(2), Id.generateTempId(3));
+        relatedList.allowAddIdTuple(first);
+        relatedList.allowAddIdTuple(second);
+        List<IdTuple> iterated = new ArrayList<>();
+        relatedList.forEach(iterated::add);
+        assertEquals(List.of(first, second), iterated);
+    }
+
+    @Test
+    public void iterator_listModified_throwsConcurrentModificationException() {
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)));
+        Iterator<IdTuple> iterator = relatedList.iterator();
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(2), Id.generateTempId(3)));
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    public void getListIdTuple_reusedUntilRelationsChange() {
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)));
+        List<IdTuple> snapshot = relatedList.getListIdTuple();
+        assertSame(snapshot, relatedList.getListIdTuple());
+
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(2), Id.generateTempId(3)));
+        assertEquals(1, snapshot.size());
+        assertEquals(2, relatedList.getListIdTuple().size());
+
+        relatedList.removeId(Id.generateTempId(2));
+        assertTrue(relatedList.getListIdTuple().isEmpty());
+    }
+
+    @Test
+    public void toArrayList_returnsParsedRelationsWithoutModifyingThisList() {
+        RelatedList parsed = relatedList.toArrayList("[1relates2, 2relates3]");
+        assertEquals(List.of(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)),
+                new IdTuple(Id.generateTempId(2), Id.generateTempId(3))), parsed.getListIdTuple());
+        assertTrue(relatedList.isEmpty());
+        assertTrue(relatedList.toArrayList("[]").isEmpty());
+    }
+
+    @Test
+    public void equals_sameRelations_equalWithSameHashCode() {
+        RelatedList other = new RelatedList();
+        relatedList.allowAddIdTuple(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)));
+        other.allowAddIdTuple(new IdTuple(Id.generateTempId(1), Id.generateTempId(2)));
+        assertTrue(relatedList.equals(other));
+        assertEquals(relatedList.hashCode(), other.hashCode());
+
+        other.allowAddIdTuple(new IdTuple(Id.generateTempId(2), Id.generateTempId(3)));
+        assertFalse(relatedList.equals(other));
+        assertFalse(relatedList.equals(null));
+    }
+
     @Test
     public void size_emptyRelatedList_returnsZero() {
         assertEquals(0, relatedList.size());
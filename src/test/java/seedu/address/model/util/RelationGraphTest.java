@@ -0,0 +1,250 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RelationGraphTest {
+
+    private final RelationGraph graph = new RelationGraph();
+
+    @Test
+    public void addEdge_newEdge_returnsTrue() {
+        assertTrue(graph.addEdge(1, 2));
+        assertTrue(graph.hasEdge(1, 2));
+        assertEquals(1, graph.edgeCount());
+    }
+
+    @Test
+    public void addEdge_duplicateOrReversedEdge_returnsFalse() {
+        graph.addEdge(1, 2);
+        assertFalse(graph.addEdge(1, 2));
+        assertFalse(graph.addEdge(2, 1));
+        assertEquals(1, graph.edgeCount());
+    }
+
+    @Test
+    public void hasEdge_reversedEdge_returnsTrue() {
+        graph.addEdge(1, 2);
+        assertTrue(graph.hasEdge(2, 1));
+        assertFalse(graph.hasEdge(1, 3));
+    }
+
+    @Test
+    public void getFirstAndSecond_keepsOrientation() {
+        graph.addEdge(5, 3);
+        assertEquals(5, graph.getFirst(0));
+        assertEquals(3, graph.getSecond(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> graph.getFirst(1));
+    }
+
+    @Test
+    public void removeEdge_existingEdge_removesFromBothEnds() {
+        graph.addEdge(1, 2);
+        graph.addEdge(1, 3);
+        assertTrue(graph.removeEdge(2, 1));
+        assertFalse(graph.hasEdge(1, 2));
+        assertEquals(1, graph.degree(1));
+        assertEquals(0, graph.degree(2));
+        assertEquals(1, graph.edgeCount());
+        assertEquals(1, graph.getFirst(0));
+        assertEquals(3, graph.getSecond(0));
+    }
+
+    @Test
+    public void removeEdge_missingEdge_returnsFalse() {
+        assertFalse(graph.removeEdge(1, 2));
+    }
+
+    @Test
+    public void removeVertex_hub_removesAllIncidentEdges() {
+        for (int i = 2; i <= 50; i++) {
+            graph.addEdge(1, i);
+        }
+        graph.addEdge(2, 3);
+        int[] removed = graph.removeVertex(1);
+        Arrays.sort(removed);
+        assertEquals(49, removed.length);
+        assertEquals(2, removed[0]);
+        assertEquals(1, graph.edgeCount());
+        assertTrue(graph.hasEdge(2, 3));
+        assertEquals(0, graph.degree(1));
+        assertArrayEquals(new int[] {3}, graph.neighbourArray(2));
+    }
+
+    @Test
+    public void removeVertex_relatedIdsShareNeighbours_keepsRemainingAdjacency() {
+        for (int i = 1; i <= 10; i++) {
+            for (int j = i + 1; j <= 10; j++) {
+                graph.addEdge(i, j);
+            }
+        }
+        graph.removeVertex(5);
+        graph.removeVertex(2);
+        assertEquals(28, graph.edgeCount());
+        for (int i = 1; i <= 10; i++) {
+            int expectedDegree = i == 2 || i == 5 ? 0 : 7;
+            assertEquals(expectedDegree, graph.degree(i));
+        }
+        assertTrue(graph.removeEdge(9, 1));
+        assertFalse(graph.hasEdge(1, 9));
+        assertEquals(6, graph.degree(1));
+        assertEquals(6, graph.degree(9));
+    }
+
+    @Test
+    public void idsWithinDepth_chain_stopsAtDepth() {
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 1);
+        graph.addEdge(3, 5);
+        assertArrayEquals(new int[] {2, 4}, graph.idsWithinDepth(1, 1, 100));
+        assertArrayEquals(new int[] {2, 4, 3}, graph.idsWithinDepth(1, 2, 100));
+        assertArrayEquals(new int[] {2, 4, 3, 5}, graph.idsWithinDepth(1, 5, 100));
+        assertArrayEquals(new int[0], graph.idsWithinDepth(6, 5, 100));
+    }
+
+    @Test
+    public void idsWithinDepth_limitReached_stopsTraversal() {
+        for (int i = 2; i <= 50; i++) {
+            graph.addEdge(1, i);
+            graph.addEdge(i, 100 + i);
+        }
+        int[] reached = graph.idsWithinDepth(1, 2, 30);
+        assertEquals(30, reached.length);
+        assertEquals(30, Arrays.stream(reached).distinct().count());
+        assertEquals(2, reached[0]);
+        assertEquals(49, graph.idsWithinDepth(1, 1, 1000).length);
+        assertEquals(98, graph.idsWithinDepth(1, 2, 1000).length);
+    }
+
+    @Test
+    public void shortestPath_connectedIds_returnsShortestChain() {
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 5);
+        graph.addEdge(1, 6);
+        graph.addEdge(6, 5);
+        assertArrayEquals(new int[] {1, 6, 5}, graph.shortestPath(1, 5));
+        assertArrayEquals(new int[] {5, 6, 1}, graph.shortestPath(5, 1));
+        assertArrayEquals(new int[] {2, 3}, graph.shortestPath(2, 3));
+        assertArrayEquals(new int[] {7}, graph.shortestPath(7, 7));
+    }
+
+    @Test
+    public void shortestPath_unconnectedIds_returnsEmptyArray() {
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 4);
+        assertArrayEquals(new int[0], graph.shortestPath(1, 4));
+        assertArrayEquals(new int[0], graph.shortestPath(1, 9));
+    }
+
+    @Test
+    public void shortestPath_randomGraph_matchesBreadthFirstDistance() {
+        Random random = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            graph.addEdge(1 + random.nextInt(150), 1 + random.nextInt(150));
+        }
+        int[] reachable = graph.idsWithinDepth(1, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        for (int id = 2; id <= 150; id++) {
+            int target = id;
+            int[] path = graph.shortestPath(1, target);
+            assertEquals(Arrays.stream(reachable).anyMatch(reached -> reached == target), path.length > 0);
+            if (path.length == 0) {
+                continue;
+            }
+            assertEquals(1, path[0]);
+            assertEquals(target, path[path.length - 1]);
+            for (int i = 1; i < path.length; i++) {
+                assertTrue(graph.hasEdge(path[i - 1], path[i]));
+            }
+            // no shorter chain exists
+            int[] closer = graph.idsWithinDepth(1, path.length - 2, Integer.MAX_VALUE);
+            assertFalse(Arrays.stream(closer).anyMatch(reached -> reached == target));
+        }
+    }
+
+    @Test
+    public void neighbours_iteratesRelatedIds() {
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 1);
+        PrimitiveIterator.OfInt iterator = graph.neighbours(1);
+        assertEquals(2, iterator.nextInt());
+        assertEquals(3, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+        assertFalse(graph.neighbours(4).hasNext());
+    }
+
+    @Test
+    public void clear_removesAllEdges() {
+        graph.addEdge(1, 2);
+        graph.clear();
+        assertEquals(0, graph.edgeCount());
+        assertFalse(graph.hasEdge(1, 2));
+        assertEquals(0, graph.degree(1));
+    }
+
+    @Test
+    public void randomOperations_matchReferenceModel() {
+        Random random = new Random(42);
+        Set<List<Integer>> expectedEdges = new HashSet<>();
+        Map<Integer, Set<Integer>> expectedNeighbours = new HashMap<>();
+
+        for (int step = 0; step < 20000; step++) {
+            int first = 1 + random.nextInt(200);
+            int second = 1 + random.nextInt(200);
+            if (first == second) {
+                continue;
+            }
+            List<Integer> key = List.of(Math.min(first, second), Math.max(first, second));
+            int operation = random.nextInt(10);
+            if (operation < 6) {
+                assertEquals(expectedEdges.add(key), graph.addEdge(first, second));
+                expectedNeighbours.computeIfAbsent(first, k -> new HashSet<>()).add(second);
+                expectedNeighbours.computeIfAbsent(second, k -> new HashSet<>()).add(first);
+            } else if (operation < 9) {
+                assertEquals(expectedEdges.remove(key), graph.removeEdge(first, second));
+                expectedNeighbours.getOrDefault(first, new HashSet<>()).remove(second);
+                expectedNeighbours.getOrDefault(second, new HashSet<>()).remove(first);
+            } else {
+                Set<Integer> related = expectedNeighbours.getOrDefault(first, new HashSet<>());
+                for (int other : related) {
+                    expectedEdges.remove(List.of(Math.min(first, other), Math.max(first, other)));
+                    expectedNeighbours.get(other).remove(first);
+                }
+                assertEquals(related.size(), graph.removeVertex(first).length);
+                related.clear();
+            }
+        }
+
+        assertEquals(expectedEdges.size(), graph.edgeCount());
+        for (int i = 0; i < graph.edgeCount(); i++) {
+            int first = graph.getFirst(i);
+            int second = graph.getSecond(i);
+            assertTrue(expectedEdges.contains(List.of(Math.min(first, second), Math.max(first, second))));
+        }
+        for (int id = 1; id <= 200; id++) {
+            Set<Integer> actual = new HashSet<>();
+            graph.neighbours(id).forEachRemaining((int related) -> actual.add(related));
+            assertEquals(expectedNeighbours.getOrDefault(id, Set.of()), actual);
+            assertEquals(actual.size(), graph.degree(id));
+        }
+    }
+}
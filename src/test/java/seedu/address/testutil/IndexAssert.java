@@ -0,0 +1,50 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.filter.NetConnectPredicate;
+
+/**
+ * Assertion methods that check predicates answered from the person index against testing each person.
+ */
+public class IndexAssert {
+
+    /**
+     * Returns the ids of the persons in {@code persons} that pass {@code predicate}.
+     */
+    public static BitSet idsPassingTest(Iterable<Person> persons, Predicate<Person> predicate) {
+        BitSet ids = new BitSet();
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                ids.set(person.getId().value);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Asserts that {@code predicate} matches the same typical persons when answered from their index as when
+     * tested on each of them, and returns the ids of those persons.
+     */
+    public static BitSet assertIndexAgreesWithTest(NetConnectPredicate<Person> predicate) {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(TypicalPersons.getTypicalPersons());
+        return assertIndexAgreesWithTest(predicate, persons);
+    }
+
+    /**
+     * Asserts that {@code predicate} matches the same persons in {@code persons} when answered from their index as
+     * when tested on each of them, and returns the ids of those persons.
+     */
+    public static BitSet assertIndexAgreesWithTest(NetConnectPredicate<Person> predicate, UniquePersonList persons) {
+        BitSet expected = idsPassingTest(persons, predicate);
+        assertEquals(Optional.of(expected), predicate.matchingIds(persons.getPersonIndex()), predicate.toString());
+        return expected;
+    }
+}